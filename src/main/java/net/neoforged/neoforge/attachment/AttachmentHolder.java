@@ -13,6 +13,7 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import net.neoforged.fml.loading.FMLLoader;
+import net.neoforged.neoforge.common.metrics.NeoForgeMetrics;
 import net.neoforged.neoforge.registries.NeoForgeRegistries;
 import org.jetbrains.annotations.MustBeInvokedByOverriders;
 import org.jetbrains.annotations.Nullable;
@@ -115,7 +116,9 @@ public abstract class AttachmentHolder implements IAttachmentHolder {
                 if (serialized != null) {
                     if (tag == null)
                         tag = new CompoundTag();
-                    tag.put(NeoForgeRegistries.ATTACHMENT_TYPES.getKey(type).toString(), serialized);
+                    String key = NeoForgeRegistries.ATTACHMENT_TYPES.getKey(type).toString();
+                    tag.put(key, serialized);
+                    NeoForgeMetrics.ATTACHMENT_SERIALIZATIONS.increment(key);
                 }
             }
         }
@@ -142,6 +145,7 @@ public abstract class AttachmentHolder implements IAttachmentHolder {
 
             try {
                 getAttachmentMap().put(type, ((IAttachmentSerializer<Tag, ?>) type.serializer).read(getExposedHolder(), tag.get(key)));
+                NeoForgeMetrics.ATTACHMENT_DESERIALIZATIONS.increment(key);
             } catch (Exception exception) {
                 LOGGER.error("Failed to deserialize data attachment {}. Skipping.", key, exception);
             }
@@ -13,6 +13,7 @@ import java.lang.ref.WeakReference;
 import java.util.Set;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.ChunkPos;
+import net.neoforged.neoforge.common.metrics.NeoForgeMetrics;
 import org.jetbrains.annotations.ApiStatus;
 
 /**
@@ -53,6 +54,7 @@ public class CapabilityListenerHolder {
      * Invalidates listeners at a specific block position.
      */
     public void invalidatePos(BlockPos pos) {
+        NeoForgeMetrics.CAPABILITY_INVALIDATIONS.increment("block");
         var chunkHolder = byChunkThenBlock.get(ChunkPos.asLong(pos));
         if (chunkHolder != null) {
             var caches = chunkHolder.get(pos.asLong());
@@ -65,6 +67,7 @@ public class CapabilityListenerHolder {
      * Invalidates listeners at a specific chunk position.
      */
     public void invalidateChunk(ChunkPos chunkPos) {
+        NeoForgeMetrics.CAPABILITY_INVALIDATIONS.increment("chunk");
         var chunkHolder = byChunkThenBlock.get(chunkPos.toLong());
         if (chunkHolder != null) {
             for (var caches : chunkHolder.values())
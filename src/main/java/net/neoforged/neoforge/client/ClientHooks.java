@@ -19,10 +19,13 @@ import com.mojang.datafixers.util.Either;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -84,6 +87,7 @@ import net.minecraft.client.resources.model.BakedModel;
 import net.minecraft.client.resources.model.Material;
 import net.minecraft.client.resources.model.ModelBakery;
 import net.minecraft.client.resources.model.ModelManager;
+import net.minecraft.client.resources.model.SimpleBakedModel;
 import net.minecraft.client.resources.sounds.SoundInstance;
 import net.minecraft.client.sounds.SoundEngine;
 import net.minecraft.core.BlockPos;
@@ -165,8 +169,11 @@ import net.neoforged.neoforge.client.extensions.common.IClientItemExtensions;
 import net.neoforged.neoforge.client.extensions.common.IClientMobEffectExtensions;
 import net.neoforged.neoforge.client.gui.ClientTooltipComponentManager;
 import net.neoforged.neoforge.client.gui.overlay.GuiOverlayManager;
+import net.neoforged.neoforge.client.model.BakedQuadInterner;
 import net.neoforged.neoforge.client.model.data.ModelData;
+import net.neoforged.neoforge.client.model.geometry.ItemLayerElementCache;
 import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.common.NeoForgeConfig;
 import net.neoforged.neoforge.common.NeoForgeMod;
 import net.neoforged.neoforge.forge.snapshots.ForgeSnapshotsModClient;
 import net.neoforged.neoforge.gametest.GameTestHooks;
@@ -426,6 +433,9 @@ public class ClientHooks {
     }
 
     public static void onModifyBakingResult(Map<ResourceLocation, BakedModel> models, Map<ResourceLocation, AtlasSet.StitchResult> stitchResults, ModelBakery modelBakery) {
+        ItemLayerElementCache.save();
+        if (NeoForgeConfig.CLIENT.internBakedQuads.getAsBoolean())
+            internBakedQuads(models.values());
         Function<Material, TextureAtlasSprite> textureGetter = material -> {
             AtlasSet.StitchResult stitchResult = stitchResults.get(material.atlasLocation());
             TextureAtlasSprite sprite = stitchResult.getSprite(material.texture());
@@ -438,6 +448,22 @@ public class ClientHooks {
         ModLoader.get().postEvent(new ModelEvent.ModifyBakingResult(models, textureGetter, modelBakery));
     }
 
+    private static void internBakedQuads(Collection<BakedModel> models) {
+        BakedQuadInterner interner = new BakedQuadInterner();
+        Set<BakedModel> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        RandomSource random = RandomSource.create();
+        for (BakedModel model : models) {
+            // Only simple models return their own quad lists, other models may compute or wrap theirs
+            if (model.getClass() != SimpleBakedModel.class || !visited.add(model))
+                continue;
+
+            interner.internAll(model.getQuads(null, null, random));
+            for (Direction direction : Direction.values())
+                interner.internAll(model.getQuads(null, direction, random));
+        }
+        LOGGER.info("Interned {} baked quads into {} distinct quads, a hit rate of {}%", interner.lookups(), interner.size(), String.format(Locale.ROOT, "%.1f", interner.hitRate() * 100));
+    }
+
     public static void onModelBake(ModelManager modelManager, Map<ResourceLocation, BakedModel> models, ModelBakery modelBakery) {
         ModLoader.get().postEvent(new ModelEvent.BakingCompleted(modelManager, Collections.unmodifiableMap(models), modelBakery));
     }
@@ -150,8 +150,8 @@ public enum NeoForgeRenderTypes {
     private final Supplier<RenderType> renderTypeSupplier;
 
     NeoForgeRenderTypes(Supplier<RenderType> renderTypeSupplier) {
-        // Wrap in a Lazy<> to avoid running the supplier more than once.
-        this.renderTypeSupplier = Lazy.of(renderTypeSupplier);
+        // Wrap in a Lazy<> to avoid running the supplier more than once, models may be baked concurrently.
+        this.renderTypeSupplier = Lazy.concurrentOf(renderTypeSupplier);
     }
 
     public RenderType get() {
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.client.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+
+/**
+ * A pool of {@link BakedQuad baked quads} that deduplicates quads with the same vertex data, tint index, direction,
+ * sprite, shading and ambient occlusion, so that all models holding such a quad share a single instance.
+ * <p>
+ * Interned quads are shared, so they must not be {@linkplain IQuadTransformer#processInPlace(BakedQuad) modified in place}.
+ * Quads of subclasses of {@link BakedQuad} are never interned, as they may carry additional state.
+ * <p>
+ * The interner is thread safe.
+ *
+ * @see IQuadTransformer#process(List, BakedQuadInterner)
+ */
+public final class BakedQuadInterner {
+    private final Map<Key, BakedQuad> quads = new ConcurrentHashMap<>();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * {@return the shared instance of a quad equal to the given one, or the given quad if it is the first of its kind}
+     */
+    public BakedQuad intern(BakedQuad quad) {
+        if (quad.getClass() != BakedQuad.class)
+            return quad;
+
+        lookups.increment();
+        BakedQuad interned = quads.putIfAbsent(new Key(quad), quad);
+        if (interned == null)
+            return quad;
+
+        hits.increment();
+        return interned;
+    }
+
+    /**
+     * Replaces the quads of the list by their shared instances, if the list is modifiable.
+     *
+     * @return {@code true} if the list was modifiable
+     */
+    public boolean internAll(List<BakedQuad> list) {
+        try {
+            for (ListIterator<BakedQuad> iterator = list.listIterator(); iterator.hasNext();) {
+                BakedQuad quad = iterator.next();
+                BakedQuad interned = intern(quad);
+                if (interned != quad)
+                    iterator.set(interned);
+            }
+            return true;
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * {@return the number of distinct quads in the pool}
+     */
+    public int size() {
+        return quads.size();
+    }
+
+    /**
+     * {@return the number of quads that were looked up in the pool}
+     */
+    public long lookups() {
+        return lookups.sum();
+    }
+
+    /**
+     * {@return the number of looked up quads that were replaced by an equal quad of the pool}
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * {@return the fraction of looked up quads that were replaced by an equal quad of the pool, between 0 and 1}
+     */
+    public double hitRate() {
+        long lookups = lookups();
+        return lookups == 0 ? 0 : (double) hits() / lookups;
+    }
+
+    /**
+     * Empties the pool and resets its statistics. Quads that were already interned stay shared.
+     */
+    public void clear() {
+        quads.clear();
+        lookups.reset();
+        hits.reset();
+    }
+
+    private static final class Key {
+        private final BakedQuad quad;
+        private final int hash;
+
+        Key(BakedQuad quad) {
+            this.quad = quad;
+            int hash = Arrays.hashCode(quad.getVertices());
+            hash = 31 * hash + quad.getTintIndex();
+            hash = 31 * hash + Objects.hashCode(quad.getDirection());
+            hash = 31 * hash + System.identityHashCode(quad.getSprite());
+            hash = 31 * hash + (quad.isShade() ? 1 : 0);
+            this.hash = 31 * hash + (quad.hasAmbientOcclusion() ? 1 : 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key other))
+                return false;
+
+            BakedQuad a = quad, b = other.quad;
+            return hash == other.hash &&
+                    a.getTintIndex() == b.getTintIndex() &&
+                    a.getDirection() == b.getDirection() &&
+                    a.getSprite() == b.getSprite() &&
+                    a.isShade() == b.isShade() &&
+                    a.hasAmbientOcclusion() == b.hasAmbientOcclusion() &&
+                    Arrays.equals(a.getVertices(), b.getVertices());
+        }
+    }
+}
@@ -42,6 +42,7 @@ import net.neoforged.neoforge.client.ChunkRenderTypeSet;
 import net.neoforged.neoforge.client.RenderTypeGroup;
 import net.neoforged.neoforge.client.model.data.ModelData;
 import net.neoforged.neoforge.client.model.data.ModelProperty;
+import net.neoforged.neoforge.client.model.geometry.ConcurrentModelBaking;
 import net.neoforged.neoforge.client.model.geometry.IGeometryBakingContext;
 import net.neoforged.neoforge.client.model.geometry.IGeometryLoader;
 import net.neoforged.neoforge.client.model.geometry.IUnbakedGeometry;
@@ -73,14 +74,19 @@ public class CompositeModel implements IUnbakedGeometry<CompositeModel> {
         if (!rootTransform.isIdentity())
             modelState = UnbakedGeometryHelper.composeRootTransformIntoModelState(modelState, rootTransform);
 
-        var bakedPartsBuilder = ImmutableMap.<String, BakedModel>builder();
+        var names = new ArrayList<String>();
+        var models = new ArrayList<BlockModel>();
         for (var entry : children.entrySet()) {
             var name = entry.getKey();
             if (!context.isComponentVisible(name, true))
                 continue;
-            var model = entry.getValue();
-            bakedPartsBuilder.put(name, model.bake(baker, model, spriteGetter, modelState, modelLocation, true));
+            names.add(name);
+            models.add(entry.getValue());
         }
+        var bakedModels = ConcurrentModelBaking.bakeAll(models, baker, spriteGetter, modelState, modelLocation, true);
+        var bakedPartsBuilder = ImmutableMap.<String, BakedModel>builder();
+        for (int i = 0; i < names.size(); i++)
+            bakedPartsBuilder.put(names.get(i), bakedModels.get(i));
         var bakedParts = bakedPartsBuilder.build();
 
         var itemPassesBuilder = ImmutableList.<BakedModel>builder();
@@ -334,6 +340,11 @@ public class CompositeModel implements IUnbakedGeometry<CompositeModel> {
 
         private Loader() {}
 
+        @Override
+        public boolean isThreadSafe() {
+            return true;
+        }
+
         @Override
         public CompositeModel read(JsonObject jsonObject, JsonDeserializationContext deserializationContext) {
             List<String> itemPasses = new ArrayList<>();
@@ -155,6 +155,11 @@ public class DynamicFluidContainerModel implements IUnbakedGeometry<DynamicFluid
 
         private Loader() {}
 
+        @Override
+        public boolean isThreadSafe() {
+            return true;
+        }
+
         @Override
         public DynamicFluidContainerModel read(JsonObject jsonObject, JsonDeserializationContext deserializationContext) {
             if (!jsonObject.has("fluid"))
@@ -66,6 +66,11 @@ public class ElementsModel extends SimpleUnbakedGeometry<ElementsModel> {
 
         private Loader() {}
 
+        @Override
+        public boolean isThreadSafe() {
+            return true;
+        }
+
         @Override
         public ElementsModel read(JsonObject jsonObject, JsonDeserializationContext deserializationContext) throws JsonParseException {
             if (!jsonObject.has("elements"))
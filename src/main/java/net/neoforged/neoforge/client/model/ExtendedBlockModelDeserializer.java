@@ -26,6 +26,7 @@ import net.minecraft.client.renderer.block.model.ItemTransforms;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.GsonHelper;
 import net.neoforged.neoforge.client.model.geometry.GeometryLoaderManager;
+import net.neoforged.neoforge.client.model.geometry.IGeometryLoader;
 import net.neoforged.neoforge.client.model.geometry.IUnbakedGeometry;
 import net.neoforged.neoforge.common.util.TransformationHelper;
 import org.jetbrains.annotations.Nullable;
@@ -50,12 +51,14 @@ public class ExtendedBlockModelDeserializer extends BlockModel.Deserializer {
     public BlockModel deserialize(JsonElement element, Type targetType, JsonDeserializationContext deserializationContext) throws JsonParseException {
         BlockModel model = super.deserialize(element, targetType, deserializationContext);
         JsonObject jsonobject = element.getAsJsonObject();
-        IUnbakedGeometry<?> geometry = deserializeGeometry(deserializationContext, jsonobject);
+        IGeometryLoader<?> loader = getLoader(jsonobject);
+        IUnbakedGeometry<?> geometry = loader != null ? loader.read(jsonobject, deserializationContext) : null;
 
         List<BlockElement> elements = model.getElements();
         if (geometry != null) {
             elements.clear();
             model.customData.setCustomGeometry(geometry);
+            model.customData.setThreadSafeGeometry(loader.isThreadSafe());
         }
 
         if (jsonobject.has("transform")) {
@@ -80,6 +83,12 @@ public class ExtendedBlockModelDeserializer extends BlockModel.Deserializer {
 
     @Nullable
     public static IUnbakedGeometry<?> deserializeGeometry(JsonDeserializationContext deserializationContext, JsonObject object) throws JsonParseException {
+        var loader = getLoader(object);
+        return loader != null ? loader.read(object, deserializationContext) : null;
+    }
+
+    @Nullable
+    private static IGeometryLoader<?> getLoader(JsonObject object) throws JsonParseException {
         if (!object.has("loader"))
             return null;
 
@@ -102,6 +111,6 @@ public class ExtendedBlockModelDeserializer extends BlockModel.Deserializer {
             throw new JsonParseException(String.format(Locale.ENGLISH, "Model loader '%s' not found. Registered loaders: %s", name, GeometryLoaderManager.getLoaderList()));
         }
 
-        return loader.read(object, deserializationContext);
+        return loader;
     }
 }
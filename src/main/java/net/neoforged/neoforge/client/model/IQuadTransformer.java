@@ -42,6 +42,14 @@ public interface IQuadTransformer {
         return inputs.stream().map(IQuadTransformer::copy).peek(this::processInPlace).toList();
     }
 
+    /**
+     * Transforms copies of the given quads, and replaces the results by their shared instances from the interner.
+     * The returned quads must not be modified in place.
+     */
+    default List<BakedQuad> process(List<BakedQuad> inputs, BakedQuadInterner interner) {
+        return inputs.stream().map(IQuadTransformer::copy).peek(this::processInPlace).map(interner::intern).toList();
+    }
+
     default IQuadTransformer andThen(IQuadTransformer other) {
         return quad -> {
             processInPlace(quad);
@@ -83,6 +83,11 @@ public class ItemLayerModel implements IUnbakedGeometry<ItemLayerModel> {
     public static final class Loader implements IGeometryLoader<ItemLayerModel> {
         public static final Loader INSTANCE = new Loader();
 
+        @Override
+        public boolean isThreadSafe() {
+            return true;
+        }
+
         @Override
         public ItemLayerModel read(JsonObject jsonObject, JsonDeserializationContext deserializationContext) {
             var renderTypeNames = new Int2ObjectOpenHashMap<ResourceLocation>();
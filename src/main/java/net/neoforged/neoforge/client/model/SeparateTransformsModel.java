@@ -6,10 +6,10 @@
 package net.neoforged.neoforge.client.model;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonObject;
 import com.mojang.blaze3d.vertex.PoseStack;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +33,7 @@ import net.minecraft.world.item.ItemDisplayContext;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.neoforge.client.ChunkRenderTypeSet;
 import net.neoforged.neoforge.client.model.data.ModelData;
+import net.neoforged.neoforge.client.model.geometry.ConcurrentModelBaking;
 import net.neoforged.neoforge.client.model.geometry.IGeometryBakingContext;
 import net.neoforged.neoforge.client.model.geometry.IGeometryLoader;
 import net.neoforged.neoforge.client.model.geometry.IUnbakedGeometry;
@@ -52,13 +53,20 @@ public class SeparateTransformsModel implements IUnbakedGeometry<SeparateTransfo
 
     @Override
     public BakedModel bake(IGeometryBakingContext context, ModelBaker baker, Function<Material, TextureAtlasSprite> spriteGetter, ModelState modelState, ItemOverrides overrides, ResourceLocation modelLocation) {
+        var models = new ArrayList<BlockModel>(perspectives.size() + 1);
+        models.add(baseModel);
+        models.addAll(perspectives.values());
+        var bakedModels = ConcurrentModelBaking.bakeAll(models, baker, spriteGetter, modelState, modelLocation, context.useBlockLight());
+
+        var bakedPerspectives = ImmutableMap.<ItemDisplayContext, BakedModel>builder();
+        int i = 1;
+        for (var perspective : perspectives.keySet())
+            bakedPerspectives.put(perspective, bakedModels.get(i++));
+
         return new Baked(
                 context.useAmbientOcclusion(), context.isGui3d(), context.useBlockLight(),
                 spriteGetter.apply(context.getMaterial("particle")), overrides,
-                baseModel.bake(baker, baseModel, spriteGetter, modelState, modelLocation, context.useBlockLight()),
-                ImmutableMap.copyOf(Maps.transformValues(perspectives, value -> {
-                    return value.bake(baker, value, spriteGetter, modelState, modelLocation, context.useBlockLight());
-                })));
+                bakedModels.get(0), bakedPerspectives.build());
     }
 
     @Override
@@ -146,6 +154,11 @@ public class SeparateTransformsModel implements IUnbakedGeometry<SeparateTransfo
 
         private Loader() {}
 
+        @Override
+        public boolean isThreadSafe() {
+            return true;
+        }
+
         @Override
         public SeparateTransformsModel read(JsonObject jsonObject, JsonDeserializationContext deserializationContext) {
             BlockModel baseModel = deserializationContext.deserialize(GsonHelper.getAsJsonObject(jsonObject, "base"), BlockModel.class);
@@ -31,6 +31,7 @@ public class BlockGeometryBakingContext implements IGeometryBakingContext {
     public final VisibilityData visibilityData = new VisibilityData();
     @Nullable
     private IUnbakedGeometry<?> customGeometry;
+    private boolean threadSafeGeometry;
     @Nullable
     private Transformation rootTransform;
     @Nullable
@@ -60,6 +61,25 @@ public class BlockGeometryBakingContext implements IGeometryBakingContext {
         this.customGeometry = geometry;
     }
 
+    /**
+     * {@return whether the custom geometry was read by a {@linkplain IGeometryLoader#isThreadSafe() thread safe loader}}
+     */
+    public boolean isThreadSafeGeometry() {
+        return owner.parent != null && customGeometry == null ? owner.parent.customData.isThreadSafeGeometry() : threadSafeGeometry;
+    }
+
+    public void setThreadSafeGeometry(boolean threadSafeGeometry) {
+        this.threadSafeGeometry = threadSafeGeometry;
+    }
+
+    /**
+     * {@return whether the model may be baked concurrently with other models}
+     * This is the case for models without custom geometry, and for models whose geometry was read by a thread safe loader.
+     */
+    public boolean canBakeConcurrently() {
+        return !hasCustomGeometry() || isThreadSafeGeometry();
+    }
+
     @Override
     public boolean isComponentVisible(String part, boolean fallback) {
         return owner.parent != null && !visibilityData.hasCustomVisibility(part) ? owner.parent.customData.isComponentVisible(part, fallback) : visibilityData.isVisible(part, fallback);
@@ -124,6 +144,7 @@ public class BlockGeometryBakingContext implements IGeometryBakingContext {
 
     public void copyFrom(BlockGeometryBakingContext other) {
         this.customGeometry = other.customGeometry;
+        this.threadSafeGeometry = other.threadSafeGeometry;
         this.rootTransform = other.rootTransform;
         this.visibilityData.copyFrom(other.visibilityData);
         this.renderTypeHint = other.renderTypeHint;
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.client.model.geometry;
+
+import com.mojang.logging.LogUtils;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import net.minecraft.Util;
+import net.minecraft.client.renderer.block.model.BlockModel;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.client.resources.model.Material;
+import net.minecraft.client.resources.model.ModelBaker;
+import net.minecraft.client.resources.model.ModelState;
+import net.minecraft.client.resources.model.UnbakedModel;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.common.NeoForgeConfig;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+
+/**
+ * Helpers to bake the top-level models and the independent sub-models of a {@linkplain IUnbakedGeometry geometry} in parallel,
+ * on the background executor of the game.
+ * <p>
+ * Models are only baked in parallel if {@linkplain NeoForgeConfig.Client#parallelModelBaking enabled},
+ * and if they {@linkplain BlockGeometryBakingContext#canBakeConcurrently() can be baked concurrently}.
+ * The {@link ModelBaker} and sprite getter are shared by all models, so they are synchronized while baking in parallel.
+ * Models that are baked in parallel bake their own sub-models serially, as the executor is already busy.
+ */
+public final class ConcurrentModelBaking {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    /**
+     * Whether the current thread is baking a model in parallel to others.
+     */
+    private static final ThreadLocal<Boolean> BAKING_CONCURRENTLY = ThreadLocal.withInitial(() -> false);
+
+    private ConcurrentModelBaking() {}
+
+    /**
+     * Bakes the top-level models that can be baked concurrently in parallel, each with its own baker.
+     * Models that are not baked here, including those that failed to bake, are left to the caller to bake in order.
+     *
+     * @param topLevelModels the top-level models to bake
+     * @param spriteGetter   the sprite getter shared by all models, taking the location of the baked model
+     * @param bakerFactory   creates the baker of each top-level model
+     * @param modelBaker     bakes a top-level model
+     * @return the baked models by location
+     */
+    @ApiStatus.Internal
+    public static Map<ResourceLocation, BakedModel> bakeTopLevelModels(Map<ResourceLocation, UnbakedModel> topLevelModels, BiFunction<ResourceLocation, Material, TextureAtlasSprite> spriteGetter, BakerFactory bakerFactory, TopLevelModelBaker modelBaker) {
+        if (!NeoForgeConfig.CLIENT.parallelModelBaking.getAsBoolean())
+            return Map.of();
+        return bakeTopLevelModelsConcurrently(topLevelModels, spriteGetter, bakerFactory, modelBaker);
+    }
+
+    @VisibleForTesting
+    public static Map<ResourceLocation, BakedModel> bakeTopLevelModelsConcurrently(Map<ResourceLocation, UnbakedModel> topLevelModels, BiFunction<ResourceLocation, Material, TextureAtlasSprite> spriteGetter, BakerFactory bakerFactory, TopLevelModelBaker modelBaker) {
+        // The bakers of all models share the caches of the model bakery, so they share a lock as well
+        Object lock = new Object();
+        BiFunction<ResourceLocation, Material, TextureAtlasSprite> synchronizedSpriteGetter = (location, material) -> {
+            synchronized (lock) {
+                return spriteGetter.apply(location, material);
+            }
+        };
+
+        List<ResourceLocation> locations = new ArrayList<>();
+        List<Callable<BakedModel>> tasks = new ArrayList<>();
+        topLevelModels.forEach((location, model) -> {
+            if (!(model instanceof BlockModel blockModel) || !blockModel.customData.canBakeConcurrently())
+                return;
+
+            locations.add(location);
+            tasks.add(() -> {
+                try {
+                    return modelBaker.bake(new SynchronizedModelBaker(bakerFactory.create(synchronizedSpriteGetter, location), lock), location, blockModel);
+                } catch (Exception e) {
+                    // The model is baked again in order, which reports the failure
+                    LOGGER.debug("Unable to bake model '{}' concurrently", location, e);
+                    return null;
+                }
+            });
+        });
+        if (tasks.size() < 2)
+            return Map.of();
+
+        List<BakedModel> results = invokeAll(tasks);
+        Map<ResourceLocation, BakedModel> baked = new HashMap<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) != null)
+                baked.put(locations.get(i), results.get(i));
+        }
+        return baked;
+    }
+
+    /**
+     * Bakes the given sub-models, in parallel if possible.
+     *
+     * @return the baked models, in the order of the given models
+     */
+    public static List<BakedModel> bakeAll(List<BlockModel> models, ModelBaker baker, Function<Material, TextureAtlasSprite> spriteGetter, ModelState modelState, ResourceLocation modelLocation, boolean guiLight3d) {
+        if (!shouldBakeConcurrently(models, baker)) {
+            List<BakedModel> baked = new ArrayList<>(models.size());
+            for (BlockModel model : models)
+                baked.add(model.bake(baker, model, spriteGetter, modelState, modelLocation, guiLight3d));
+            return baked;
+        }
+
+        // The sprite getter is usually backed by the same state as the baker, so they share a lock
+        ModelBaker synchronizedBaker = new SynchronizedModelBaker(baker, baker);
+        Function<Material, TextureAtlasSprite> synchronizedSpriteGetter = synchronizedSpriteGetter(spriteGetter, baker);
+        List<Callable<BakedModel>> tasks = new ArrayList<>(models.size());
+        for (BlockModel model : models)
+            tasks.add(() -> model.bake(synchronizedBaker, model, synchronizedSpriteGetter, modelState, modelLocation, guiLight3d));
+        return invokeAll(tasks);
+    }
+
+    /**
+     * {@return a baker that delegates to the given baker while holding its lock}
+     */
+    public static ModelBaker synchronizedBaker(ModelBaker baker) {
+        return baker instanceof SynchronizedModelBaker ? baker : new SynchronizedModelBaker(baker, baker);
+    }
+
+    /**
+     * {@return a sprite getter that delegates to the given sprite getter while holding its lock}
+     */
+    public static Function<Material, TextureAtlasSprite> synchronizedSpriteGetter(Function<Material, TextureAtlasSprite> spriteGetter) {
+        return synchronizedSpriteGetter(spriteGetter, spriteGetter);
+    }
+
+    private static Function<Material, TextureAtlasSprite> synchronizedSpriteGetter(Function<Material, TextureAtlasSprite> spriteGetter, Object lock) {
+        return material -> {
+            synchronized (lock) {
+                return spriteGetter.apply(material);
+            }
+        };
+    }
+
+    private static boolean shouldBakeConcurrently(List<BlockModel> models, ModelBaker baker) {
+        // Models baked in parallel to others bake their sub-models serially. Nested bakes of such models also hold the lock
+        // of the shared baker, so their sub-models could never make progress.
+        if (models.size() < 2 || BAKING_CONCURRENTLY.get() || !NeoForgeConfig.CLIENT.parallelModelBaking.getAsBoolean())
+            return false;
+
+        for (BlockModel model : models) {
+            if (!model.customData.canBakeConcurrently())
+                return false;
+        }
+        return true;
+    }
+
+    private static <T> List<T> invokeAll(List<Callable<T>> tasks) {
+        List<Callable<T>> markedTasks = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            markedTasks.add(() -> {
+                // Restore the previous state, as the thread may run this task while waiting on other tasks
+                boolean previous = BAKING_CONCURRENTLY.get();
+                BAKING_CONCURRENTLY.set(true);
+                try {
+                    return task.call();
+                } finally {
+                    BAKING_CONCURRENTLY.set(previous);
+                }
+            });
+        }
+
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> future : Util.backgroundExecutor().invokeAll(markedTasks))
+                results.add(future.get());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException)
+                throw runtimeException;
+            if (e.getCause() instanceof Error error)
+                throw error;
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while baking models", e);
+        }
+        return results;
+    }
+
+    /**
+     * Creates the baker of a top-level model.
+     */
+    @FunctionalInterface
+    public interface BakerFactory {
+        ModelBaker create(BiFunction<ResourceLocation, Material, TextureAtlasSprite> spriteGetter, ResourceLocation location);
+    }
+
+    /**
+     * Bakes a top-level model with the given baker, in the same way as {@link ModelBaker#bake(ResourceLocation, ModelState)} would.
+     */
+    @FunctionalInterface
+    public interface TopLevelModelBaker {
+        @Nullable
+        BakedModel bake(ModelBaker baker, ResourceLocation location, BlockModel model);
+    }
+
+    private static final class SynchronizedModelBaker implements ModelBaker {
+        private final ModelBaker delegate;
+        private final Object lock;
+
+        private SynchronizedModelBaker(ModelBaker delegate, Object lock) {
+            this.delegate = delegate;
+            this.lock = lock;
+        }
+
+        @Override
+        public UnbakedModel getModel(ResourceLocation location) {
+            synchronized (lock) {
+                return delegate.getModel(location);
+            }
+        }
+
+        @Nullable
+        @Override
+        @Deprecated
+        public BakedModel bake(ResourceLocation location, ModelState state) {
+            return bake(location, state, getModelTextureGetter());
+        }
+
+        @Nullable
+        @Override
+        public BakedModel bake(ResourceLocation location, ModelState state, Function<Material, TextureAtlasSprite> sprites) {
+            synchronized (lock) {
+                return delegate.bake(location, state, sprites);
+            }
+        }
+
+        @Override
+        public Function<Material, TextureAtlasSprite> getModelTextureGetter() {
+            return synchronizedSpriteGetter(delegate.getModelTextureGetter(), lock);
+        }
+    }
+}
@@ -23,4 +23,14 @@ import net.neoforged.neoforge.client.event.RegisterClientReloadListenersEvent;
  */
 public interface IGeometryLoader<T extends IUnbakedGeometry<T>> {
     T read(JsonObject jsonObject, JsonDeserializationContext deserializationContext) throws JsonParseException;
+
+    /**
+     * {@return whether the geometries read by this loader may be baked concurrently with other geometries}
+     * <p>
+     * A loader may only return {@code true} if baking its geometries does not mutate any shared state, apart from
+     * the {@link net.minecraft.client.resources.model.ModelBaker} and sprite getter it is given.
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
 }
@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.client.model.geometry;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.mojang.blaze3d.platform.NativeImage;
+import com.mojang.logging.LogUtils;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import net.minecraft.client.renderer.block.model.BlockElement;
+import net.minecraft.client.renderer.block.model.BlockElementFace;
+import net.minecraft.client.renderer.block.model.BlockFaceUV;
+import net.minecraft.client.renderer.block.model.ItemModelGenerator;
+import net.minecraft.client.renderer.texture.SpriteContents;
+import net.minecraft.core.Direction;
+import net.neoforged.fml.loading.FMLPaths;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Vector3f;
+import org.lwjgl.system.MemoryUtil;
+import org.slf4j.Logger;
+
+/**
+ * Caches the shapes of the {@linkplain BlockElement block elements} generated for item layers, keyed by a hash of the
+ * pixels of the sprite contents, so that the elements of a texture are only generated once.
+ * The pixels are hashed in bulk, so that cache hits do not need to look at the transparency of each pixel.
+ * <p>
+ * The shapes are kept in memory, and written to disk after each model bake so that later launches can reuse them.
+ * Only the shapes used since the game started are written, which drops those of textures that are no longer loaded.
+ */
+@ApiStatus.Internal
+public final class ItemLayerElementCache {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final int FORMAT_VERSION = 2;
+    private static final ItemModelGenerator ITEM_MODEL_GENERATOR = new ItemModelGenerator();
+    private static final Map<HashCode, Shapes> SHAPES = new ConcurrentHashMap<>();
+    private static final Set<HashCode> USED = ConcurrentHashMap.newKeySet();
+    private static volatile boolean loaded;
+    private static volatile boolean dirty;
+
+    private ItemLayerElementCache() {}
+
+    /**
+     * {@return the cached element shapes of the given sprite contents, generating them if they are not cached yet}
+     */
+    public static Shapes get(SpriteContents contents) {
+        load();
+
+        HashCode key = hash(contents);
+        if (key == null)
+            return generate(contents);
+
+        USED.add(key);
+        Shapes shapes = SHAPES.get(key);
+        if (shapes == null) {
+            shapes = generate(contents);
+            SHAPES.putIfAbsent(key, shapes);
+            dirty = true;
+        }
+        return shapes;
+    }
+
+    /**
+     * Hashes the size and unique frames of the given sprite contents, along with all pixels of its image.
+     * This also covers the colors of the pixels, which do not matter for the shapes, but it is much cheaper than
+     * extracting the transparency of each pixel.
+     *
+     * @return the hash, or {@code null} if the pixels of the image cannot be read in bulk
+     */
+    @Nullable
+    private static HashCode hash(SpriteContents contents) {
+        NativeImage image = contents.getOriginalImage();
+        if (image.format() != NativeImage.Format.RGBA || image.pixels == 0)
+            return null;
+
+        Hasher hasher = Hashing.sha256().newHasher()
+                .putInt(contents.width()).putInt(contents.height())
+                .putInt(image.getWidth()).putInt(image.getHeight());
+        contents.getUniqueFrames().forEach(hasher::putInt);
+        hasher.putBytes(MemoryUtil.memByteBuffer(image.pixels, image.getWidth() * image.getHeight() * NativeImage.Format.RGBA.components()));
+        return hasher.hash();
+    }
+
+    private static Shapes generate(SpriteContents contents) {
+        int width = contents.width(), height = contents.height();
+        BitSet opaque = new BitSet(width * height);
+        contents.getUniqueFrames().forEach(frame -> {
+            for (int y = 0; y < height; y++)
+                for (int x = 0; x < width; x++)
+                    if (!contents.isTransparent(frame, x, y))
+                        opaque.set(x + y * width);
+        });
+        return Shapes.of(width, height, ITEM_MODEL_GENERATOR.processFrames(0, "layer0", contents), opaque);
+    }
+
+    /**
+     * Covers the set pixels of a mask with rectangles. Each run of set pixels of a row that is not covered yet is extended
+     * down for as long as all of its columns are set in the following rows, even if the runs of those rows are wider.
+     * The pixels of the wider runs that are left over are covered by the rectangles of their own rows.
+     *
+     * @param opaque the mask, with one bit per pixel in row-major order
+     * @return the rectangles, which do not overlap
+     */
+    public static List<MaskRect> mergeOpaquePixels(BitSet opaque, int width, int height) {
+        BitSet remaining = (BitSet) opaque.clone();
+        List<MaskRect> rects = new ArrayList<>();
+        for (int y = 0; y < height; y++) {
+            int rowStart = y * width, rowEnd = rowStart + width;
+            for (int i = remaining.nextSetBit(rowStart); i != -1 && i < rowEnd; i = remaining.nextSetBit(i)) {
+                int minX = i - rowStart;
+                int maxX = Math.min(remaining.nextClearBit(i), rowEnd) - rowStart;
+
+                // Expand the run down as long as the same columns are set
+                int maxY = y + 1;
+                while (maxY < height && remaining.nextClearBit(maxY * width + minX) >= maxY * width + maxX)
+                    maxY++;
+
+                for (int j = y; j < maxY; j++)
+                    remaining.clear(j * width + minX, j * width + maxX);
+                rects.add(new MaskRect(minX, y, maxX, maxY));
+                i = rowStart + maxX;
+            }
+        }
+        return rects;
+    }
+
+    /**
+     * Writes the shapes used since the game started to disk, if any of them was generated since they were last written.
+     */
+    public static void save() {
+        if (!dirty)
+            return;
+        dirty = false;
+
+        Path file = getCacheFile();
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                List<HashCode> keys = USED.stream().filter(SHAPES::containsKey).toList();
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(keys.size());
+                for (HashCode key : keys) {
+                    byte[] bytes = key.asBytes();
+                    out.writeByte(bytes.length);
+                    out.write(bytes);
+                    SHAPES.get(key).write(out);
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write the item layer element cache to {}", file, e);
+        }
+    }
+
+    private static void load() {
+        if (loaded)
+            return;
+
+        synchronized (ItemLayerElementCache.class) {
+            if (loaded)
+                return;
+
+            Path file = getCacheFile();
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+                if (in.readInt() != FORMAT_VERSION)
+                    return;
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    byte[] bytes = new byte[in.readUnsignedByte()];
+                    in.readFully(bytes);
+                    SHAPES.put(HashCode.fromBytes(bytes), Shapes.read(in));
+                }
+                LOGGER.debug("Loaded {} cached item layer element shapes", count);
+            } catch (NoSuchFileException ignored) {
+                // Nothing is cached yet
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Failed to read the item layer element cache from {}, it will be regenerated", file, e);
+                SHAPES.clear();
+            } finally {
+                loaded = true;
+            }
+        }
+    }
+
+    private static Path getCacheFile() {
+        return FMLPaths.GAMEDIR.get().resolve(".cache").resolve("neoforge").resolve("item_layer_elements.bin");
+    }
+
+    /**
+     * The element shapes generated for one sprite contents.
+     *
+     * @param elements the shapes of the elements generated by vanilla, the front and back element followed by the edges
+     * @param mask     the rectangles covering the pixels that are opaque in any frame
+     */
+    public record Shapes(int width, int height, List<ElementShape> elements, List<MaskRect> mask) {
+        /**
+         * Creates the shapes of the given sprite size.
+         *
+         * @param elements the elements generated by vanilla for layer 0
+         * @param opaque   the pixels that are opaque in any frame, with one bit per pixel in row-major order
+         */
+        public static Shapes of(int width, int height, List<BlockElement> elements, BitSet opaque) {
+            List<ElementShape> shapes = new ArrayList<>(elements.size());
+            for (BlockElement element : elements)
+                shapes.add(ElementShape.of(element));
+            return new Shapes(width, height, List.copyOf(shapes), mergeOpaquePixels(opaque, width, height));
+        }
+
+        /**
+         * {@return new elements for the given layer, with front and back faces that take up the whole surface}
+         */
+        public List<BlockElement> createElements(int layerIndex) {
+            List<BlockElement> result = new ArrayList<>(elements.size());
+            for (ElementShape element : elements)
+                result.add(element.create(layerIndex));
+            return result;
+        }
+
+        /**
+         * {@return new elements for the given layer, that only cover the opaque pixels with their front and back faces}
+         * The edges are covered by the edge elements of {@link #createElements(int)}, so these elements have no other faces.
+         */
+        public List<BlockElement> createMaskElements(int layerIndex) {
+            List<BlockElement> result = new ArrayList<>(mask.size());
+            for (MaskRect rect : mask) {
+                Map<Direction, BlockElementFace> faces = new HashMap<>();
+                faces.put(Direction.NORTH, new BlockElementFace(null, layerIndex, "layer" + layerIndex, new BlockFaceUV(null, 0)));
+                faces.put(Direction.SOUTH, new BlockElementFace(null, layerIndex, "layer" + layerIndex, new BlockFaceUV(null, 0)));
+                result.add(new BlockElement(
+                        new Vector3f(16 * rect.minX() / (float) width, 16 - 16 * rect.maxY() / (float) height, 7.5F),
+                        new Vector3f(16 * rect.maxX() / (float) width, 16 - 16 * rect.minY() / (float) height, 8.5F),
+                        faces,
+                        null,
+                        true));
+            }
+            return result;
+        }
+
+        /**
+         * Writes the shapes in the format of the cache file.
+         */
+        public void write(DataOutputStream out) throws IOException {
+            out.writeShort(width);
+            out.writeShort(height);
+            out.writeInt(elements.size());
+            for (ElementShape element : elements)
+                element.write(out);
+            out.writeInt(mask.size());
+            for (MaskRect rect : mask) {
+                out.writeShort(rect.minX());
+                out.writeShort(rect.minY());
+                out.writeShort(rect.maxX());
+                out.writeShort(rect.maxY());
+            }
+        }
+
+        /**
+         * Reads shapes in the format of the cache file.
+         */
+        public static Shapes read(DataInputStream in) throws IOException {
+            int width = in.readUnsignedShort(), height = in.readUnsignedShort();
+            int elementCount = in.readInt();
+            List<ElementShape> elements = new ArrayList<>(elementCount);
+            for (int i = 0; i < elementCount; i++)
+                elements.add(ElementShape.read(in));
+            int rectCount = in.readInt();
+            List<MaskRect> mask = new ArrayList<>(rectCount);
+            for (int i = 0; i < rectCount; i++)
+                mask.add(new MaskRect(in.readUnsignedShort(), in.readUnsignedShort(), in.readUnsignedShort(), in.readUnsignedShort()));
+            return new Shapes(width, height, List.copyOf(elements), List.copyOf(mask));
+        }
+    }
+
+    /**
+     * A rectangle of pixels, from the inclusive minimum to the exclusive maximum coordinates.
+     */
+    public record MaskRect(int minX, int minY, int maxX, int maxY) {}
+
+    /**
+     * The shape of a generated element, without the layer its faces belong to.
+     */
+    record ElementShape(float[] from, float[] to, List<FaceShape> faces) {
+        static ElementShape of(BlockElement element) {
+            List<FaceShape> faces = new ArrayList<>(element.faces.size());
+            element.faces.forEach((direction, face) -> faces.add(new FaceShape(direction, face.cullForDirection, face.uv.uvs.clone(), face.uv.rotation)));
+            return new ElementShape(
+                    new float[] { element.from.x, element.from.y, element.from.z },
+                    new float[] { element.to.x, element.to.y, element.to.z },
+                    List.copyOf(faces));
+        }
+
+        BlockElement create(int layerIndex) {
+            Map<Direction, BlockElementFace> map = new HashMap<>();
+            for (FaceShape face : faces)
+                map.put(face.direction(), new BlockElementFace(face.cullForDirection(), layerIndex, "layer" + layerIndex, new BlockFaceUV(face.uvs().clone(), face.rotation())));
+            return new BlockElement(new Vector3f(from[0], from[1], from[2]), new Vector3f(to[0], to[1], to[2]), map, null, true);
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            for (float value : from)
+                out.writeFloat(value);
+            for (float value : to)
+                out.writeFloat(value);
+            out.writeByte(faces.size());
+            for (FaceShape face : faces) {
+                out.writeByte(face.direction().ordinal());
+                out.writeByte(face.cullForDirection() == null ? -1 : face.cullForDirection().ordinal());
+                for (float uv : face.uvs())
+                    out.writeFloat(uv);
+                out.writeShort(face.rotation());
+            }
+        }
+
+        static ElementShape read(DataInputStream in) throws IOException {
+            float[] from = { in.readFloat(), in.readFloat(), in.readFloat() };
+            float[] to = { in.readFloat(), in.readFloat(), in.readFloat() };
+            int faceCount = in.readUnsignedByte();
+            List<FaceShape> faces = new ArrayList<>(faceCount);
+            for (int i = 0; i < faceCount; i++) {
+                Direction direction = Direction.values()[in.readUnsignedByte()];
+                byte cull = in.readByte();
+                float[] uvs = { in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat() };
+                faces.add(new FaceShape(direction, cull == -1 ? null : Direction.values()[cull], uvs, in.readShort()));
+            }
+            return new ElementShape(from, to, List.copyOf(faces));
+        }
+    }
+
+    private record FaceShape(Direction direction, @Nullable Direction cullForDirection, float[] uvs, int rotation) {}
+}
@@ -7,22 +7,17 @@ package net.neoforged.neoforge.client.model.geometry;
 
 import com.mojang.math.Transformation;
 import java.util.ArrayList;
-import java.util.BitSet;
-import java.util.HashMap;
 import java.util.List;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import net.minecraft.Util;
 import net.minecraft.client.renderer.block.model.BakedQuad;
 import net.minecraft.client.renderer.block.model.BlockElement;
 import net.minecraft.client.renderer.block.model.BlockElementFace;
-import net.minecraft.client.renderer.block.model.BlockFaceUV;
 import net.minecraft.client.renderer.block.model.BlockModel;
 import net.minecraft.client.renderer.block.model.FaceBakery;
 import net.minecraft.client.renderer.block.model.ItemModelGenerator;
 import net.minecraft.client.renderer.texture.MissingTextureAtlasSprite;
-import net.minecraft.client.renderer.texture.SpriteContents;
 import net.minecraft.client.renderer.texture.TextureAtlas;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.client.resources.model.BakedModel;
@@ -126,12 +121,7 @@ public class UnbakedGeometryHelper {
      * The {@link Direction#NORTH} and {@link Direction#SOUTH} faces take up the whole surface.
      */
     public static List<BlockElement> createUnbakedItemElements(int layerIndex, TextureAtlasSprite sprite, @Nullable ExtraFaceData faceData) {
-        var elements = ITEM_MODEL_GENERATOR.processFrames(layerIndex, "layer" + layerIndex, sprite.contents());
-        ClientHooks.fixItemModelSeams(elements, sprite);
-        if (faceData != null) {
-            elements.forEach(element -> element.setFaceData(faceData));
-        }
-        return elements;
+        return createUnbakedItemElements(layerIndex, sprite, faceData, ItemLayerElementCache.get(sprite.contents()));
     }
 
     /**
@@ -148,62 +138,20 @@ public class UnbakedGeometryHelper {
      * The {@link Direction#NORTH} and {@link Direction#SOUTH} faces take up only the pixels the texture uses.
      */
     public static List<BlockElement> createUnbakedItemMaskElements(int layerIndex, TextureAtlasSprite sprite, @Nullable ExtraFaceData faceData) {
-        var elements = createUnbakedItemElements(layerIndex, sprite, faceData);
+        var shapes = ItemLayerElementCache.get(sprite.contents());
+        var elements = createUnbakedItemElements(layerIndex, sprite, faceData, shapes);
         elements.remove(0); // Remove north and south faces
 
-        SpriteContents spriteContents = sprite.contents();
-        int width = spriteContents.width(), height = spriteContents.height();
-        var bits = new BitSet(width * height);
-
-        // For every frame in the texture, mark all the opaque pixels (this is what vanilla does too)
-        spriteContents.getUniqueFrames().forEach(frame -> {
-            for (int x = 0; x < width; x++)
-                for (int y = 0; y < height; y++)
-                    if (!spriteContents.isTransparent(frame, x, y))
-                        bits.set(x + y * width);
-        });
-
-        // Scan in search of opaque pixels
-        for (int y = 0; y < height; y++) {
-            int xStart = -1;
-            for (int x = 0; x < width; x++) {
-                var opaque = bits.get(x + y * width);
-                if (opaque == (xStart == -1)) // (opaque && -1) || (!opaque && !-1)
-                {
-                    if (xStart == -1) {
-                        // We have found the start of a new segment, continue
-                        xStart = x;
-                        continue;
-                    }
-
-                    // The segment is over, expand down as far as possible
-                    int yEnd = y + 1;
-                    expand:
-                    for (; yEnd < height; yEnd++)
-                        for (int x2 = xStart; x2 <= x; x2++)
-                            if (!bits.get(x2 + yEnd * width))
-                                break expand;
-
-                    // Mark all pixels in the area as visited
-                    for (int i = xStart; i < x; i++)
-                        for (int j = y; j < yEnd; j++)
-                            bits.clear(i + j * width);
-
-                    // Create element
-                    elements.add(new BlockElement(
-                            new Vector3f(16 * xStart / (float) width, 16 - 16 * yEnd / (float) height, 7.5F),
-                            new Vector3f(16 * x / (float) width, 16 - 16 * y / (float) height, 8.5F),
-                            Util.make(new HashMap<>(), map -> {
-                                for (Direction direction : Direction.values())
-                                    map.put(direction, new BlockElementFace(null, layerIndex, "layer" + layerIndex, new BlockFaceUV(null, 0)));
-                            }),
-                            null,
-                            true));
+        // Cover the pixels that are opaque in any frame, this is what vanilla does too
+        elements.addAll(shapes.createMaskElements(layerIndex));
+        return elements;
+    }
 
-                    // Reset xStart
-                    xStart = -1;
-                }
-            }
+    private static List<BlockElement> createUnbakedItemElements(int layerIndex, TextureAtlasSprite sprite, @Nullable ExtraFaceData faceData, ItemLayerElementCache.Shapes shapes) {
+        var elements = shapes.createElements(layerIndex);
+        ClientHooks.fixItemModelSeams(elements, sprite);
+        if (faceData != null) {
+            elements.forEach(element -> element.setFaceData(faceData));
         }
         return elements;
     }
@@ -41,7 +41,7 @@ public class LightPipelineAwareModelBlockRenderer extends ModelBlockRenderer {
 
     @Override
     public void tesselateWithoutAO(BlockAndTintGetter level, BakedModel model, BlockState state, BlockPos pos, PoseStack poseStack, VertexConsumer vertexConsumer, boolean checkSides, RandomSource rand, long seed, int packedOverlay, ModelData modelData, RenderType renderType) {
-        if (NeoForgeConfig.CLIENT.experimentalForgeLightPipelineEnabled.get()) {
+        if (NeoForgeConfig.CLIENT.experimentalForgeLightPipelineEnabled.getAsBoolean()) {
             render(vertexConsumer, flatLighter.get(), level, model, state, pos, poseStack, checkSides, rand, seed, packedOverlay, modelData, renderType);
         } else {
             super.tesselateWithoutAO(level, model, state, pos, poseStack, vertexConsumer, checkSides, rand, seed, packedOverlay, modelData, renderType);
@@ -50,7 +50,7 @@ public class LightPipelineAwareModelBlockRenderer extends ModelBlockRenderer {
 
     @Override
     public void tesselateWithAO(BlockAndTintGetter level, BakedModel model, BlockState state, BlockPos pos, PoseStack poseStack, VertexConsumer vertexConsumer, boolean checkSides, RandomSource rand, long seed, int packedOverlay, ModelData modelData, RenderType renderType) {
-        if (NeoForgeConfig.CLIENT.experimentalForgeLightPipelineEnabled.get()) {
+        if (NeoForgeConfig.CLIENT.experimentalForgeLightPipelineEnabled.getAsBoolean()) {
             render(vertexConsumer, smoothLighter.get(), level, model, state, pos, poseStack, checkSides, rand, seed, packedOverlay, modelData, renderType);
         } else {
             super.tesselateWithAO(level, model, state, pos, poseStack, vertexConsumer, checkSides, rand, seed, packedOverlay, modelData, renderType);
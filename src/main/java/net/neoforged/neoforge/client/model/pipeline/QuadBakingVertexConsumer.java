@@ -9,8 +9,6 @@ import com.google.common.base.Preconditions;
 import com.mojang.blaze3d.vertex.DefaultVertexFormat;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.blaze3d.vertex.VertexFormatElement;
-import java.util.IdentityHashMap;
-import java.util.Map;
 import java.util.function.Consumer;
 import net.minecraft.Util;
 import net.minecraft.client.renderer.block.model.BakedQuad;
@@ -26,10 +24,10 @@ import net.neoforged.neoforge.client.textures.UnitTextureAtlasSprite;
  * ordering or missing elements, but will not automatically populate missing data (color will be black, for example).
  */
 public class QuadBakingVertexConsumer implements VertexConsumer {
-    private final Map<VertexFormatElement, Integer> ELEMENT_OFFSETS = Util.make(new IdentityHashMap<>(), map -> {
-        int i = 0;
-        for (var element : DefaultVertexFormat.BLOCK.getElements())
-            map.put(element, DefaultVertexFormat.BLOCK.getOffset(i++) / 4); // Int offset
+    private static final VertexFormatElement[] ELEMENTS = DefaultVertexFormat.BLOCK.getElements().toArray(VertexFormatElement[]::new);
+    private static final int[] ELEMENT_OFFSETS = Util.make(new int[ELEMENTS.length], offsets -> {
+        for (int i = 0; i < offsets.length; i++)
+            offsets[i] = DefaultVertexFormat.BLOCK.getOffset(i) / 4; // Int offset
     });
     private static final int QUAD_DATA_SIZE = IQuadTransformer.STRIDE * 4;
 
@@ -103,10 +101,12 @@ public class QuadBakingVertexConsumer implements VertexConsumer {
 
     @Override
     public VertexConsumer misc(VertexFormatElement element, int... rawData) {
-        Integer baseOffset = ELEMENT_OFFSETS.get(element);
-        if (baseOffset != null) {
-            int offset = vertexIndex * IQuadTransformer.STRIDE + baseOffset;
-            System.arraycopy(rawData, 0, quadData, offset, rawData.length);
+        for (int i = 0; i < ELEMENTS.length; i++) {
+            if (ELEMENTS[i] == element) {
+                int offset = vertexIndex * IQuadTransformer.STRIDE + ELEMENT_OFFSETS[i];
+                System.arraycopy(rawData, 0, quadData, offset, rawData.length);
+                break;
+            }
         }
         return this;
     }
@@ -168,6 +168,7 @@ import net.neoforged.neoforge.event.entity.living.LivingGetProjectileEvent;
 import net.neoforged.neoforge.event.entity.living.LivingHurtEvent;
 import net.neoforged.neoforge.event.entity.living.LivingKnockBackEvent;
 import net.neoforged.neoforge.event.entity.living.LivingSwapItemsEvent;
+import net.neoforged.neoforge.event.entity.living.LivingTickListeners;
 import net.neoforged.neoforge.event.entity.living.LivingUseTotemEvent;
 import net.neoforged.neoforge.event.entity.living.LootingLevelEvent;
 import net.neoforged.neoforge.event.entity.living.ShieldBlockEvent;
@@ -229,7 +230,13 @@ public class CommonHooks {
     }
 
     public static boolean onLivingTick(LivingEntity entity) {
-        return NeoForge.EVENT_BUS.post(new LivingEvent.LivingTickEvent(entity)).isCanceled();
+        boolean canceled = LivingTickListeners.onLivingTick(entity);
+        if (!NeoForge.EVENT_BUS_LISTENERS.hasListeners(LivingEvent.LivingTickEvent.class))
+            return canceled;
+        LivingEvent.LivingTickEvent event = new LivingEvent.LivingTickEvent(entity);
+        // Listeners that receive canceled events still see the ticks canceled by a typed listener
+        event.setCanceled(canceled);
+        return NeoForge.EVENT_BUS.post(event).isCanceled();
     }
 
     public static boolean onLivingAttack(LivingEntity entity, DamageSource src, float amount) {
@@ -299,7 +306,7 @@ public class CommonHooks {
         boolean isSpectator = (entity instanceof Player && entity.isSpectator());
         if (isSpectator)
             return Optional.empty();
-        if (!NeoForgeConfig.SERVER.fullBoundingBoxLadders.get()) {
+        if (!NeoForgeConfig.SERVER.fullBoundingBoxLadders.getAsBoolean()) {
             return state.isLadder(level, pos, entity) ? Optional.of(pos) : Optional.empty();
         } else {
             AABB bb = entity.getBoundingBox();
@@ -493,6 +500,22 @@ public class CommonHooks {
         return event.isCanceled() ? -1 : event.getExpToDrop();
     }
 
+    /**
+     * Removes a snapshot captured by {@link Level#setBlock(BlockPos, BlockState, int, int)} for a placement that failed.
+     * <p>
+     * The snapshot is searched by identity starting from the end of the list, where it almost always is since
+     * it was captured last, instead of comparing it against every earlier snapshot like {@link List#remove(Object)} does.
+     */
+    @ApiStatus.Internal
+    public static void removeFailedBlockSnapshot(List<BlockSnapshot> capturedSnapshots, BlockSnapshot snapshot) {
+        for (int i = capturedSnapshots.size() - 1; i >= 0; i--) {
+            if (capturedSnapshots.get(i) == snapshot) {
+                capturedSnapshots.remove(i);
+                return;
+            }
+        }
+    }
+
     public static InteractionResult onPlaceItemIntoWorld(UseOnContext context) {
         ItemStack itemstack = context.getItemInHand();
         Level level = context.getLevel();
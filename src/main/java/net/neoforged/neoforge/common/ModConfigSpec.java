@@ -29,13 +29,18 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import net.neoforged.fml.Logging;
 import net.neoforged.fml.config.IConfigSpec;
 import net.neoforged.fml.loading.FMLEnvironment;
+import net.neoforged.neoforge.network.ConfigSync;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -111,6 +116,7 @@ public class ModConfigSpec extends UnmodifiableConfigWrapper<UnmodifiableConfig>
 
     public void afterReload() {
         this.resetCaches(getValues().valueMap().values());
+        ConfigSync.INSTANCE.invalidate(this);
     }
 
     private void resetCaches(final Iterable<Object> configValues) {
@@ -130,6 +136,7 @@ public class ModConfigSpec extends UnmodifiableConfigWrapper<UnmodifiableConfig>
         if (childConfig instanceof FileConfig) {
             ((FileConfig) childConfig).save();
         }
+        ConfigSync.INSTANCE.invalidate(this);
     }
 
     public synchronized boolean isCorrect(CommentedConfig config) {
@@ -878,7 +885,7 @@ public class ModConfigSpec extends UnmodifiableConfigWrapper<UnmodifiableConfig>
         private final List<String> path;
         private final Supplier<T> defaultSupplier;
 
-        private T cachedValue = null;
+        private volatile T cachedValue = null;
 
         private ModConfigSpec spec;
 
@@ -918,12 +925,22 @@ public class ModConfigSpec extends UnmodifiableConfigWrapper<UnmodifiableConfig>
             if (spec.childConfig == null)
                 return defaultSupplier.get();
 
-            if (USE_CACHES && cachedValue == null)
-                cachedValue = getRaw(spec.childConfig, path, defaultSupplier);
-            else if (!USE_CACHES)
+            if (!USE_CACHES)
                 return getRaw(spec.childConfig, path, defaultSupplier);
 
-            return cachedValue;
+            T value = cachedValue;
+            if (value == null)
+                cachedValue = value = getRaw(spec.childConfig, path, defaultSupplier);
+
+            return value;
+        }
+
+        /**
+         * {@return whether the value returned by {@link #get()} may be cached by the primitive specializations}
+         * This is the case once the associated config has been loaded, and while caching is enabled.
+         */
+        protected boolean canCachePrimitive() {
+            return USE_CACHES && spec != null && spec.childConfig != null;
         }
 
         protected T getRaw(Config config, List<String> path, Supplier<T> defaultSupplier) {
@@ -959,13 +976,53 @@ public class ModConfigSpec extends UnmodifiableConfigWrapper<UnmodifiableConfig>
         }
     }
 
-    public static class BooleanValue extends ConfigValue<Boolean> {
+    /**
+     * A boolean config value, which can be read without boxing via {@link #getAsBoolean()}.
+     */
+    public static class BooleanValue extends ConfigValue<Boolean> implements BooleanSupplier {
+        private volatile boolean primitiveCached = false;
+        private volatile boolean cachedPrimitive;
+
         BooleanValue(Builder parent, List<String> path, Supplier<Boolean> defaultSupplier) {
             super(parent, path, defaultSupplier);
         }
+
+        /**
+         * Returns the actual value for the configuration setting, without boxing it once the config is loaded.
+         * The unboxed value is refreshed eagerly whenever the config is (re)loaded, so reads are lock-free and safe from any thread.
+         *
+         * @see #get()
+         */
+        @Override
+        public boolean getAsBoolean() {
+            return primitiveCached ? cachedPrimitive : get();
+        }
+
+        @Override
+        public void set(Boolean value) {
+            super.set(value);
+            this.cachedPrimitive = value;
+            this.primitiveCached = canCachePrimitive();
+        }
+
+        @Override
+        public void clearCache() {
+            super.clearCache();
+            this.primitiveCached = false;
+            if (canCachePrimitive()) {
+                this.cachedPrimitive = get();
+                this.primitiveCached = true;
+            }
+        }
     }
 
-    public static class IntValue extends ConfigValue<Integer> {
+    /**
+     * An int config value, which can be read without boxing via {@link #getAsInt()}.
+     */
+    public static class IntValue extends ConfigValue<Integer> implements IntSupplier {
+        private volatile boolean primitiveCached = false;
+        private volatile int cachedPrimitive;
+
         IntValue(Builder parent, List<String> path, Supplier<Integer> defaultSupplier) {
             super(parent, path, defaultSupplier);
         }
@@ -974,9 +1031,43 @@ public class ModConfigSpec extends UnmodifiableConfigWrapper<UnmodifiableConfig>
         protected Integer getRaw(Config config, List<String> path, Supplier<Integer> defaultSupplier) {
             return config.getIntOrElse(path, () -> defaultSupplier.get());
         }
+
+        /**
+         * Returns the actual value for the configuration setting, without boxing it once the config is loaded.
+         * The unboxed value is refreshed eagerly whenever the config is (re)loaded, so reads are lock-free and safe from any thread.
+         *
+         * @see #get()
+         */
+        @Override
+        public int getAsInt() {
+            return primitiveCached ? cachedPrimitive : get();
+        }
+
+        @Override
+        public void set(Integer value) {
+            super.set(value);
+            this.cachedPrimitive = value;
+            this.primitiveCached = canCachePrimitive();
+        }
+
+        @Override
+        public void clearCache() {
+            super.clearCache();
+            this.primitiveCached = false;
+            if (canCachePrimitive()) {
+                this.cachedPrimitive = get();
+                this.primitiveCached = true;
+            }
+        }
     }
 
-    public static class LongValue extends ConfigValue<Long> {
+    /**
+     * A long config value, which can be read without boxing via {@link #getAsLong()}.
+     */
+    public static class LongValue extends ConfigValue<Long> implements LongSupplier {
+        private volatile boolean primitiveCached = false;
+        private volatile long cachedPrimitive;
+
         LongValue(Builder parent, List<String> path, Supplier<Long> defaultSupplier) {
             super(parent, path, defaultSupplier);
         }
@@ -985,9 +1076,43 @@ public class ModConfigSpec extends UnmodifiableConfigWrapper<UnmodifiableConfig>
         protected Long getRaw(Config config, List<String> path, Supplier<Long> defaultSupplier) {
             return config.getLongOrElse(path, () -> defaultSupplier.get());
         }
+
+        /**
+         * Returns the actual value for the configuration setting, without boxing it once the config is loaded.
+         * The unboxed value is refreshed eagerly whenever the config is (re)loaded, so reads are lock-free and safe from any thread.
+         *
+         * @see #get()
+         */
+        @Override
+        public long getAsLong() {
+            return primitiveCached ? cachedPrimitive : get();
+        }
+
+        @Override
+        public void set(Long value) {
+            super.set(value);
+            this.cachedPrimitive = value;
+            this.primitiveCached = canCachePrimitive();
+        }
+
+        @Override
+        public void clearCache() {
+            super.clearCache();
+            this.primitiveCached = false;
+            if (canCachePrimitive()) {
+                this.cachedPrimitive = get();
+                this.primitiveCached = true;
+            }
+        }
     }
 
-    public static class DoubleValue extends ConfigValue<Double> {
+    /**
+     * A double config value, which can be read without boxing via {@link #getAsDouble()}.
+     */
+    public static class DoubleValue extends ConfigValue<Double> implements DoubleSupplier {
+        private volatile boolean primitiveCached = false;
+        private volatile double cachedPrimitive;
+
         DoubleValue(Builder parent, List<String> path, Supplier<Double> defaultSupplier) {
             super(parent, path, defaultSupplier);
         }
@@ -997,6 +1122,34 @@ public class ModConfigSpec extends UnmodifiableConfigWrapper<UnmodifiableConfig>
             Number n = config.<Number>get(path);
             return n == null ? defaultSupplier.get() : n.doubleValue();
         }
+
+        /**
+         * Returns the actual value for the configuration setting, without boxing it once the config is loaded.
+         * The unboxed value is refreshed eagerly whenever the config is (re)loaded, so reads are lock-free and safe from any thread.
+         *
+         * @see #get()
+         */
+        @Override
+        public double getAsDouble() {
+            return primitiveCached ? cachedPrimitive : get();
+        }
+
+        @Override
+        public void set(Double value) {
+            super.set(value);
+            this.cachedPrimitive = value;
+            this.primitiveCached = canCachePrimitive();
+        }
+
+        @Override
+        public void clearCache() {
+            super.clearCache();
+            this.primitiveCached = false;
+            if (canCachePrimitive()) {
+                this.cachedPrimitive = get();
+                this.primitiveCached = true;
+            }
+        }
     }
 
     public static class EnumValue<T extends Enum<T>> extends ConfigValue<T> {
@@ -8,8 +8,15 @@ package net.neoforged.neoforge.common;
 import net.neoforged.bus.api.BusBuilder;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.event.IModBusEvent;
+import net.neoforged.neoforge.event.EventListenerTracker;
+import org.jetbrains.annotations.ApiStatus;
 
 public class NeoForge {
+    /**
+     * Tracks the event types that listeners were registered for on the {@link #EVENT_BUS}.
+     */
+    @ApiStatus.Internal
+    public static final EventListenerTracker EVENT_BUS_LISTENERS = new EventListenerTracker();
     /**
      * The NeoForge event bus, used for most events.
      * Also known as the "game" bus.
@@ -18,5 +25,6 @@ public class NeoForge {
         if (IModBusEvent.class.isAssignableFrom(eventType)) {
             throw new IllegalArgumentException("IModBusEvent events are not allowed on the common NeoForge bus! Use a mod bus instead.");
         }
+        EVENT_BUS_LISTENERS.onListenerRegistered(eventType);
     }).build();
 }
@@ -10,6 +10,9 @@ import net.neoforged.fml.Logging;
 import net.neoforged.fml.event.config.ModConfigEvent;
 import net.neoforged.neoforge.common.ModConfigSpec.BooleanValue;
 import net.neoforged.neoforge.common.ModConfigSpec.ConfigValue;
+import net.neoforged.neoforge.common.ModConfigSpec.EnumValue;
+import net.neoforged.neoforge.common.ModConfigSpec.IntValue;
+import net.neoforged.neoforge.network.filters.InboundPayloadLimiter;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 
@@ -28,6 +31,20 @@ public class NeoForgeConfig {
 
         public final BooleanValue advertiseDedicatedServerToLan;
 
+        public final IntValue lagSpikeThreshold;
+
+        public final IntValue mainThreadPayloadBudget;
+
+        public final IntValue payloadsPerSecond;
+
+        public final IntValue payloadBytesPerSecond;
+
+        public final IntValue channelPayloadsPerSecond;
+
+        public final IntValue channelPayloadBytesPerSecond;
+
+        public final EnumValue<InboundPayloadLimiter.Policy> payloadBudgetPolicy;
+
         Server(ModConfigSpec.Builder builder) {
             builder.comment("Server configuration settings")
                     .push("server");
@@ -60,6 +77,41 @@ public class NeoForgeConfig {
                     .translation("neoforge.configgui.advertiseDedicatedServerToLan")
                     .define("advertiseDedicatedServerToLan", true);
 
+            lagSpikeThreshold = builder
+                    .comment("Server ticks taking longer than this many milliseconds are recorded as lag spikes to logs/tick-spikes.log, with stack samples of the server thread. Set to 0 to disable.")
+                    .translation("neoforge.configgui.lagSpikeThreshold")
+                    .defineInRange("lagSpikeThreshold", 500, 0, Integer.MAX_VALUE);
+
+            mainThreadPayloadBudget = builder
+                    .comment("The maximum number of milliseconds per tick spent handling modded payloads that are handled on the main thread. Payloads that do not fit are handled in the following ticks.")
+                    .translation("neoforge.configgui.mainThreadPayloadBudget")
+                    .defineInRange("mainThreadPayloadBudget", 10, 1, 1000);
+
+            payloadsPerSecond = builder
+                    .comment("The maximum number of modded payloads per second a client may send. Reads from clients that exceed it are paused until they are back within the budget. Set to 0 to disable.")
+                    .translation("neoforge.configgui.payloadsPerSecond")
+                    .defineInRange("payloadsPerSecond", 1000, 0, Integer.MAX_VALUE);
+
+            payloadBytesPerSecond = builder
+                    .comment("The maximum number of bytes of modded payloads per second a client may send. Reads from clients that exceed it are paused until they are back within the budget. Set to 0 to disable.")
+                    .translation("neoforge.configgui.payloadBytesPerSecond")
+                    .defineInRange("payloadBytesPerSecond", 4194304, 0, Integer.MAX_VALUE);
+
+            channelPayloadsPerSecond = builder
+                    .comment("The maximum number of modded payloads per second a client may send on a single channel. Reads from clients that exceed it are paused until they are back within the budget. Set to 0 to disable.")
+                    .translation("neoforge.configgui.channelPayloadsPerSecond")
+                    .defineInRange("channelPayloadsPerSecond", 500, 0, Integer.MAX_VALUE);
+
+            channelPayloadBytesPerSecond = builder
+                    .comment("The maximum number of bytes of modded payloads per second a client may send on a single channel. Reads from clients that exceed it are paused until they are back within the budget. Set to 0 to disable.")
+                    .translation("neoforge.configgui.channelPayloadBytesPerSecond")
+                    .defineInRange("channelPayloadBytesPerSecond", 2097152, 0, Integer.MAX_VALUE);
+
+            payloadBudgetPolicy = builder
+                    .comment("What to do with clients that exceed their payload budget, on top of pausing reads from them. THROTTLE only pauses reads, LOG also logs a warning and DISCONNECT disconnects the client.")
+                    .translation("neoforge.configgui.payloadBudgetPolicy")
+                    .defineEnum("payloadBudgetPolicy", InboundPayloadLimiter.Policy.LOG);
+
             builder.pop();
         }
     }
@@ -86,6 +138,10 @@ public class NeoForgeConfig {
 
         public final BooleanValue useCombinedDepthStencilAttachment;
 
+        public final BooleanValue internBakedQuads;
+
+        public final BooleanValue parallelModelBaking;
+
         @Deprecated(since = "1.20.1", forRemoval = true) // Config option ignored.
         public final BooleanValue compressLanIPv6Addresses;
 
@@ -108,6 +164,16 @@ public class NeoForgeConfig {
                     .translation("neoforge.configgui.useCombinedDepthStencilAttachment")
                     .define("useCombinedDepthStencilAttachment", false);
 
+            internBakedQuads = builder
+                    .comment("When enabled, identical baked quads of simple block and item models are shared after model baking, which reduces the memory used by the baked models. Mods that modify the quads of baked models in place may break.")
+                    .translation("neoforge.configgui.internBakedQuads")
+                    .define("internBakedQuads", false);
+
+            parallelModelBaking = builder
+                    .comment("When enabled, the independent parts of composite models are baked in parallel, if the loaders of all their parts declare themselves thread safe.")
+                    .translation("neoforge.configgui.parallelModelBaking")
+                    .define("parallelModelBaking", false);
+
             compressLanIPv6Addresses = builder
                     .comment("[Deprecated for Removal] IPv6 addresses will always be compressed")
                     .translation("neoforge.configgui.compressLanIPv6Addresses")
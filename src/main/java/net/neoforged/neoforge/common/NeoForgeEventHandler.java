@@ -35,8 +35,11 @@ import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerEvent;
 import net.neoforged.neoforge.event.level.ChunkEvent;
 import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.network.ContainerDataBatcher;
 import net.neoforged.neoforge.network.PacketDistributor;
+import net.neoforged.neoforge.network.payload.AdvancedAddEntityPayload;
 import net.neoforged.neoforge.network.payload.RegistryDataMapSyncPayload;
+import net.neoforged.neoforge.network.registration.PayloadDispatcher;
 import net.neoforged.neoforge.registries.DataMapLoader;
 import net.neoforged.neoforge.registries.RegistryManager;
 import net.neoforged.neoforge.server.command.ConfigCommand;
@@ -72,12 +75,20 @@ public class NeoForgeEventHandler {
     @SubscribeEvent
     public void onServerTick(TickEvent.ServerTickEvent event) {
         WorldWorkerManager.tick(event.phase == TickEvent.Phase.START);
+        if (event.phase == TickEvent.Phase.START) {
+            PayloadDispatcher.handleServerPayloads();
+        } else {
+            ContainerDataBatcher.flushAll();
+            AdvancedAddEntityPayload.clearTickCache();
+        }
     }
 
     @SubscribeEvent
     public void checkSettings(TickEvent.ClientTickEvent event) {
         //if (event.phase == Phase.END)
         //    CloudRenderer.updateCloudSettings();
+        if (event.phase == TickEvent.Phase.START)
+            PayloadDispatcher.handleClientPayloads();
     }
 
     @SubscribeEvent
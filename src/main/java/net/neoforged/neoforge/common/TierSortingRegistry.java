@@ -18,13 +18,17 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import it.unimi.dsi.fastutil.booleans.BooleanConsumer;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import net.minecraft.network.chat.Component;
@@ -48,6 +52,7 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.fml.loading.FMLEnvironment;
 import net.neoforged.fml.loading.toposort.TopologicalSort;
 import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
 import net.neoforged.neoforge.internal.versions.neoforge.NeoForgeVersion;
 import net.neoforged.neoforge.network.configuration.SyncTierSortingRegistry;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
@@ -133,12 +138,7 @@ public class TierSortingRegistry {
         if (!isTierSorted(tier))
             return isCorrectTierVanilla(tier, state);
 
-        for (int x = sortedTiers.indexOf(tier) + 1; x < sortedTiers.size(); x++) {
-            TagKey<Block> tag = sortedTiers.get(x).getTag();
-            if (tag != null && state.is(tag))
-                return false;
-        }
-        return true;
+        return tierLookup.isCorrectTierForDrops(tier, state);
     }
 
     /**
@@ -214,15 +214,60 @@ public class TierSortingRegistry {
 
     private static final List<Tier> sortedTiers = new ArrayList<>();
     private static final List<Tier> sortedTiersUnmodifiable = Collections.unmodifiableList(sortedTiers);
+    private static volatile TierLookup tierLookup = new TierLookup(List.of());
+
+    /**
+     * Lookup table built from the tier order, used to answer {@link #isCorrectTierForDrops(Tier, BlockState)}
+     * without walking the sorted tiers and their tags on every query.
+     * <p>
+     * For each block state, the index of the highest tier whose tag contains the state is computed once and cached.
+     * A tier is then correct for a state if that index is not above its own index.
+     * The lookup is replaced whenever the tier order or the tags change.
+     */
+    private static final class TierLookup {
+        private final List<Tier> sortedTiers;
+        private final Object2IntMap<Tier> tierIndices = new Object2IntOpenHashMap<>();
+        private final List<TagKey<Block>> tags = new ArrayList<>();
+        private final Map<BlockState, Integer> requiredTierIndices = new ConcurrentHashMap<>();
+
+        private TierLookup(List<Tier> sortedTiers) {
+            this.sortedTiers = List.copyOf(sortedTiers);
+            tierIndices.defaultReturnValue(-1);
+            for (int x = 0; x < sortedTiers.size(); x++) {
+                Tier tier = sortedTiers.get(x);
+                tierIndices.put(tier, x);
+                tags.add(tier.getTag());
+            }
+        }
+
+        private boolean isCorrectTierForDrops(Tier tier, BlockState state) {
+            return requiredTierIndices.computeIfAbsent(state, this::computeRequiredTierIndex) <= tierIndices.getInt(tier);
+        }
+
+        private int computeRequiredTierIndex(BlockState state) {
+            for (int x = tags.size() - 1; x >= 0; x--) {
+                TagKey<Block> tag = tags.get(x);
+                if (tag != null && state.is(tag))
+                    return x;
+            }
+            return -1;
+        }
+    }
 
     static boolean allowVanilla() {
         return !hasCustomTiers;
     }
 
     /*package private*/ static void init() {
+        NeoForge.EVENT_BUS.addListener(TierSortingRegistry::onTagsUpdated);
         if (FMLEnvironment.dist.isClient()) ClientEvents.init();
     }
 
+    private static void onTagsUpdated(TagsUpdatedEvent event) {
+        // Tag membership of block states may have changed, drop the cached lookups
+        tierLookup = new TierLookup(tierLookup.sortedTiers);
+    }
+
     /*package private*/ static PreparableReloadListener getReloadListener() {
         return new SimplePreparableReloadListener<JsonObject>() {
             final Gson gson = (new GsonBuilder()).create();
@@ -290,6 +335,7 @@ public class TierSortingRegistry {
         runInServerThreadIfPossible(hasServer -> {
             sortedTiers.clear();
             sortedTiers.addAll(tierList);
+            tierLookup = new TierLookup(tierList);
         });
     }
 
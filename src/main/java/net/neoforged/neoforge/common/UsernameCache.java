@@ -15,12 +15,18 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.nio.file.StandardCopyOption;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import net.neoforged.fml.loading.FMLLoader;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -37,11 +43,31 @@ import org.jetbrains.annotations.Nullable;
  * the caches underlying map.
  */
 public final class UsernameCache {
-    private static Map<UUID, String> map = new HashMap<>();
+    private static final Map<UUID, String> map = new ConcurrentHashMap<>();
 
     private static final Path saveFile = FMLLoader.getGamePath().resolve("usernamecache.json");
+    private static final Path tempSaveFile = saveFile.resolveSibling(saveFile.getFileName() + ".tmp");
     private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
 
+    /** How long changes are collected before they are written to disk, in milliseconds */
+    private static final long SAVE_DELAY_MS = 5000;
+    /** Single writer that persists the cache; all saves are coalesced onto it */
+    private static final ScheduledExecutorService saveExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Username Cache Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** Whether a write is currently scheduled. Changes made while one is pending are included in it */
+    private static final AtomicBoolean saveScheduled = new AtomicBoolean();
+
+    static {
+        // The writer is a daemon thread, make sure pending changes are not lost on shutdown
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (saveScheduled.get())
+                writeToDisk();
+        }, "Username Cache Shutdown Writer"));
+    }
+
     private static final Logger LOGGER = LogManager.getLogger(UsernameCache.class);
     private static final Marker USRCACHE = MarkerManager.getMarker("USERNAMECACHE");
 
@@ -122,9 +148,13 @@ public final class UsernameCache {
 
     /**
      * Save the cache to file
+     * <p>
+     * The write happens on a background thread after a short delay, so that
+     * multiple changes in quick succession only cause a single write.
      */
     protected static void save() {
-        new SaveThread(gson.toJson(map)).start();
+        if (saveScheduled.compareAndSet(false, true))
+            saveExecutor.schedule(UsernameCache::writeToDisk, SAVE_DELAY_MS, TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -136,7 +166,16 @@ public final class UsernameCache {
         try (final BufferedReader reader = Files.newBufferedReader(saveFile, Charsets.UTF_8)) {
             @SuppressWarnings("serial")
             Type type = new TypeToken<Map<UUID, String>>() {}.getType();
-            map = gson.fromJson(reader, type);
+            Map<UUID, String> loaded = gson.fromJson(reader, type);
+            map.clear();
+            // Can sometimes be null when the json file is malformed
+            if (loaded != null) {
+                // The map does not accept null keys or values, which the json file may contain
+                loaded.forEach((uuid, username) -> {
+                    if (uuid != null && username != null)
+                        map.put(uuid, username);
+                });
+            }
         } catch (JsonSyntaxException | IOException e) {
             LOGGER.error(USRCACHE, "Could not parse username cache file as valid json, deleting file {}", saveFile, e);
             try {
@@ -144,36 +183,26 @@ public final class UsernameCache {
             } catch (IOException e1) {
                 LOGGER.error(USRCACHE, "Could not delete file {}", saveFile.toString());
             }
-        } finally {
-            // Can sometimes occur when the json file is malformed
-            if (map == null) {
-                map = new HashMap<>();
-            }
         }
     }
 
     /**
-     * Used for saving the {@link com.google.gson.Gson#toJson(Object) Gson}
-     * representation of the cache to disk
+     * Writes the {@link com.google.gson.Gson#toJson(Object) Gson} representation
+     * of the cache to disk, going through a temporary file so that the save file
+     * is never left half-written
      */
-    private static class SaveThread extends Thread {
-        /** The data that will be saved to disk */
-        private final String data;
-
-        public SaveThread(String data) {
-            this.data = data;
-        }
-
-        @Override
-        public void run() {
+    private static synchronized void writeToDisk() {
+        // Clear the flag before serializing, so that changes made during the write schedule another one
+        saveScheduled.set(false);
+        try {
+            Files.write(tempSaveFile, gson.toJson(map).getBytes(StandardCharsets.UTF_8));
             try {
-                // Make sure we don't save when another thread is still saving
-                synchronized (saveFile) {
-                    Files.write(saveFile, data.getBytes(StandardCharsets.UTF_8));
-                }
-            } catch (IOException e) {
-                LOGGER.error(USRCACHE, "Failed to save username cache to file!", e);
+                Files.move(tempSaveFile, saveFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempSaveFile, saveFile, StandardCopyOption.REPLACE_EXISTING);
             }
+        } catch (IOException e) {
+            LOGGER.error(USRCACHE, "Failed to save username cache to file!", e);
         }
     }
 }
@@ -76,6 +76,7 @@ import net.neoforged.neoforge.common.IPlantable;
 import net.neoforged.neoforge.common.ToolAction;
 import net.neoforged.neoforge.common.ToolActions;
 import net.neoforged.neoforge.common.world.AuxiliaryLightManager;
+import net.neoforged.neoforge.common.world.CachedBlockProperty;
 import org.jetbrains.annotations.Nullable;
 
 @SuppressWarnings("deprecation")
@@ -957,4 +958,20 @@ public interface IBlockExtension {
     default boolean isEmpty(BlockState state) {
         return state.is(Blocks.AIR) || state.is(Blocks.CAVE_AIR) || state.is(Blocks.VOID_AIR);
     }
+
+    /**
+     * Whether the value of the given property for the given state only depends on the state, and not on the level,
+     * the position or the other arguments of its hook.
+     * <p>
+     * The values of position-independent properties are computed once per state when the block registry is baked, and
+     * served by the positional getters of {@link BlockState} without calling the hook.
+     * The hooks of the fire properties are called again when the block is {@linkplain FireBlock#setFlammable registered as flammable}.
+     *
+     * @param state    The state of this block
+     * @param property The property
+     * @return True if the property can be precomputed for the state. By default, when this block does not override the hook of the property
+     */
+    default boolean isPositionIndependent(BlockState state, CachedBlockProperty property) {
+        return property.usesDefaultHook(self());
+    }
 }
@@ -41,6 +41,8 @@ import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
 import net.neoforged.neoforge.common.IPlantable;
 import net.neoforged.neoforge.common.ToolAction;
 import net.neoforged.neoforge.common.ToolActions;
+import net.neoforged.neoforge.common.world.BlockStatePropertyCache;
+import net.neoforged.neoforge.common.world.CachedBlockProperty;
 import net.neoforged.neoforge.event.EventHooks;
 import org.jetbrains.annotations.Nullable;
 
@@ -64,6 +66,9 @@ public interface IBlockStateExtension {
      * @return the factor by which the entity's motion should be multiplied
      */
     default float getFriction(LevelReader level, BlockPos pos, @Nullable Entity entity) {
+        BlockStatePropertyCache cache = self().getPropertyCache();
+        if (cache.has(CachedBlockProperty.FRICTION))
+            return cache.friction();
         return self().getBlock().getFriction(self(), level, pos, entity);
     }
 
@@ -71,6 +76,9 @@ public interface IBlockStateExtension {
      * Get a light value for this block, taking into account the given state and coordinates, normal ranges are between 0 and 15
      */
     default int getLightEmission(BlockGetter level, BlockPos pos) {
+        BlockStatePropertyCache cache = self().getPropertyCache();
+        if (cache.has(CachedBlockProperty.LIGHT_EMISSION))
+            return cache.lightEmission();
         return self().getBlock().getLightEmission(self(), level, pos);
     }
 
@@ -196,6 +204,9 @@ public interface IBlockStateExtension {
      * @return The amount of the explosion absorbed.
      */
     default float getExplosionResistance(BlockGetter level, BlockPos pos, Explosion explosion) {
+        BlockStatePropertyCache cache = self().getPropertyCache();
+        if (cache.has(CachedBlockProperty.EXPLOSION_RESISTANCE))
+            return cache.explosionResistance();
         return self().getBlock().getExplosionResistance(self(), level, pos, explosion);
     }
 
@@ -396,6 +407,9 @@ public interface IBlockStateExtension {
      * @return A SoundType to use
      */
     default SoundType getSoundType(LevelReader level, BlockPos pos, @Nullable Entity entity) {
+        BlockStatePropertyCache cache = self().getPropertyCache();
+        if (cache.has(CachedBlockProperty.SOUND_TYPE))
+            return cache.soundType();
         return self().getBlock().getSoundType(self(), level, pos, entity);
     }
 
@@ -458,6 +472,9 @@ public interface IBlockStateExtension {
      * @return A number ranging from 0 to 300 relating used to determine if the block will be consumed by fire
      */
     default int getFlammability(BlockGetter level, BlockPos pos, Direction face) {
+        BlockStatePropertyCache cache = self().getPropertyCache();
+        if (cache.has(CachedBlockProperty.FLAMMABILITY))
+            return cache.flammability();
         return self().getBlock().getFlammability(self(), level, pos, face);
     }
 
@@ -495,6 +512,9 @@ public interface IBlockStateExtension {
      * @return A number that is used to determine the speed of fire growth around the block
      */
     default int getFireSpreadSpeed(BlockGetter level, BlockPos pos, Direction face) {
+        BlockStatePropertyCache cache = self().getPropertyCache();
+        if (cache.has(CachedBlockProperty.FIRE_SPREAD_SPEED))
+            return cache.fireSpreadSpeed();
         return self().getBlock().getFireSpreadSpeed(self(), level, pos, face);
     }
 
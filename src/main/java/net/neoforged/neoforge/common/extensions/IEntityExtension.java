@@ -408,7 +408,7 @@ public interface IEntityExtension extends INBTSerializable<CompoundTag> {
      */
     default void sendPairingData(ServerPlayer serverPlayer, Consumer<CustomPacketPayload> bundleBuilder) {
         if (this instanceof IEntityWithComplexSpawn) {
-            bundleBuilder.accept(new AdvancedAddEntityPayload(self()));
+            bundleBuilder.accept(AdvancedAddEntityPayload.forEntity(self()));
         }
     }
 }
@@ -9,12 +9,15 @@ import java.util.Collection;
 import java.util.Collections;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.AbortableIterationConsumer;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
 import net.neoforged.neoforge.capabilities.BlockCapability;
 import net.neoforged.neoforge.entity.PartEntity;
+import net.neoforged.neoforge.entity.PartEntityIndex;
 import org.jetbrains.annotations.Nullable;
 
 public interface ILevelExtension {
@@ -45,6 +48,17 @@ public interface ILevelExtension {
         return Collections.emptyList();
     }
 
+    /**
+     * Passes the part entities whose bounding box intersects the given area to the consumer, until it aborts.
+     * Levels that keep their parts in a {@link PartEntityIndex} override this to only visit nearby parts.
+     */
+    public default void getPartEntities(AABB area, AbortableIterationConsumer<PartEntity<?>> consumer) {
+        for (PartEntity<?> part : getPartEntities()) {
+            if (part.getBoundingBox().intersects(area) && consumer.accept(part).shouldAbort())
+                return;
+        }
+    }
+
     /**
      * Retrieve a block capability.
      *
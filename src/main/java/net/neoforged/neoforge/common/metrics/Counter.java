@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A metric that only goes up, such as the number of times something happened.
+ */
+public final class Counter extends Metric {
+    private final LongAdder value = new LongAdder();
+
+    Counter(String name, String help) {
+        super(name, help);
+    }
+
+    public void increment() {
+        if (Metrics.ENABLED)
+            value.increment();
+    }
+
+    /**
+     * @param amount the amount to add, must not be negative
+     */
+    public void add(long amount) {
+        if (Metrics.ENABLED)
+            value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+
+    @Override
+    String getType() {
+        return "counter";
+    }
+
+    @Override
+    void writeSamples(StringBuilder out) {
+        out.append(getName()).append(' ').append(get()).append('\n');
+    }
+}
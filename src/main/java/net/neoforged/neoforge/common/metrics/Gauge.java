@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.common.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A metric whose current value is sampled when the metrics are exported.
+ */
+public final class Gauge extends Metric {
+    private final LongSupplier value;
+
+    Gauge(String name, String help, LongSupplier value) {
+        super(name, help);
+        this.value = value;
+    }
+
+    public long get() {
+        return value.getAsLong();
+    }
+
+    @Override
+    String getType() {
+        return "gauge";
+    }
+
+    @Override
+    void writeSamples(StringBuilder out) {
+        out.append(getName()).append(' ').append(get()).append('\n');
+    }
+}
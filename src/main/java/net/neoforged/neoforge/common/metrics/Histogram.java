@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A metric that counts durations into buckets with fixed upper bounds.
+ */
+public final class Histogram extends Metric {
+    private final double[] bucketsSeconds;
+    private final long[] bucketsNanos;
+    /**
+     * Counts per bucket, the last one counting the values over the largest bound.
+     */
+    private final AtomicLongArray counts;
+    private final LongAdder sumNanos = new LongAdder();
+
+    Histogram(String name, String help, double[] bucketsSeconds) {
+        super(name, help);
+        this.bucketsSeconds = bucketsSeconds.clone();
+        this.bucketsNanos = new long[bucketsSeconds.length];
+        for (int i = 0; i < bucketsSeconds.length; i++) {
+            if (i > 0 && bucketsSeconds[i] <= bucketsSeconds[i - 1])
+                throw new IllegalArgumentException("Histogram buckets must be in ascending order");
+            bucketsNanos[i] = (long) (bucketsSeconds[i] * 1.0E9);
+        }
+        this.counts = new AtomicLongArray(bucketsSeconds.length + 1);
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(long nanos) {
+        if (!Metrics.ENABLED)
+            return;
+
+        int bucket = 0;
+        while (bucket < bucketsNanos.length && nanos > bucketsNanos[bucket])
+            bucket++;
+        counts.incrementAndGet(bucket);
+        sumNanos.add(nanos);
+    }
+
+    @Override
+    String getType() {
+        return "histogram";
+    }
+
+    @Override
+    void writeSamples(StringBuilder out) {
+        long cumulative = 0;
+        for (int i = 0; i < bucketsSeconds.length; i++) {
+            cumulative += counts.get(i);
+            out.append(getName()).append("_bucket{le=\"").append(bucketsSeconds[i]).append("\"} ").append(cumulative).append('\n');
+        }
+        cumulative += counts.get(bucketsSeconds.length);
+        out.append(getName()).append("_bucket{le=\"+Inf\"} ").append(cumulative).append('\n');
+        out.append(getName()).append("_sum ").append(sumNanos.sum() / 1.0E9).append('\n');
+        out.append(getName()).append("_count ").append(cumulative).append('\n');
+    }
+}
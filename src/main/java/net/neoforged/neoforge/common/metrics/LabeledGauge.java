@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.common.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A set of gauges that are distinguished by the value of a single label, such as the queue depth of each payload channel.
+ * Unlike a {@link LabeledCounter}, the values can go down.
+ * <p>
+ * Label values should come from a bounded set, as each distinct value is kept for the lifetime of the game.
+ */
+public final class LabeledGauge extends Metric {
+    private final String label;
+    private final Map<String, LongAdder> values = new ConcurrentHashMap<>();
+
+    LabeledGauge(String name, String help, String label) {
+        super(name, help);
+        this.label = label;
+    }
+
+    public void increment(String labelValue) {
+        add(labelValue, 1);
+    }
+
+    public void decrement(String labelValue) {
+        add(labelValue, -1);
+    }
+
+    public void add(String labelValue, long amount) {
+        if (Metrics.ENABLED)
+            values.computeIfAbsent(labelValue, k -> new LongAdder()).add(amount);
+    }
+
+    public long get(String labelValue) {
+        LongAdder value = values.get(labelValue);
+        return value == null ? 0 : value.sum();
+    }
+
+    @Override
+    String getType() {
+        return "gauge";
+    }
+
+    @Override
+    void writeSamples(StringBuilder out) {
+        new TreeMap<>(values).forEach((labelValue, value) -> out.append(getName())
+                .append('{').append(label).append("=\"").append(escapeLabelValue(labelValue)).append("\"} ")
+                .append(value.sum()).append('\n'));
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.common.metrics;
+
+/**
+ * Base class of the metrics that can be registered in {@link Metrics}.
+ */
+public abstract class Metric {
+    private final String name;
+    private final String help;
+
+    Metric(String name, String help) {
+        this.name = name;
+        this.help = help;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Writes this metric in the Prometheus text format.
+     */
+    final void write(StringBuilder out) {
+        out.append("# HELP ").append(name).append(' ').append(help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(getType()).append('\n');
+        writeSamples(out);
+    }
+
+    abstract String getType();
+
+    abstract void writeSamples(StringBuilder out);
+
+    static String escapeLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
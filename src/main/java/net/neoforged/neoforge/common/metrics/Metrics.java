@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.common.metrics;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A registry of metrics that are periodically exported in the
+ * <a href="https://prometheus.io/docs/instrumenting/exposition_formats/">Prometheus text format</a>.
+ * <p>
+ * Metrics are only collected when the {@code neoforge.metrics.file} system property is set to the path of the file
+ * to export to, for example for the textfile collector of the Prometheus node exporter.
+ * The file is rewritten every {@code neoforge.metrics.interval} seconds, 15 by default.
+ * <p>
+ * When metrics are disabled, {@link #ENABLED} is a constant {@code false} and recording into a metric is a no-op
+ * that the JIT removes entirely. When they are enabled, recording is lock-free.
+ * Metrics may be registered and recorded from any thread.
+ */
+public final class Metrics {
+    @Nullable
+    private static final Path EXPORT_FILE = getExportFile();
+    /**
+     * Whether metrics are collected.
+     */
+    public static final boolean ENABLED = EXPORT_FILE != null;
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+    private static final List<Metric> METRICS = new CopyOnWriteArrayList<>();
+
+    static {
+        if (EXPORT_FILE != null)
+            MetricsExporter.start(EXPORT_FILE, Long.getLong("neoforge.metrics.interval", 15));
+    }
+
+    private Metrics() {}
+
+    /**
+     * Registers a counter, a value that only goes up.
+     *
+     * @param name the name of the metric, conventionally ending in {@code _total}
+     * @param help a description of the metric
+     */
+    public static Counter counter(String name, String help) {
+        return register(new Counter(checkName(name), help));
+    }
+
+    /**
+     * Registers a set of counters, distinguished by the value of a label.
+     *
+     * @param name  the name of the metric, conventionally ending in {@code _total}
+     * @param help  a description of the metric
+     * @param label the name of the label
+     */
+    public static LabeledCounter labeledCounter(String name, String help, String label) {
+        return register(new LabeledCounter(checkName(name), help, checkName(label)));
+    }
+
+    /**
+     * Registers a gauge, a value that is sampled when the metrics are exported.
+     *
+     * @param name  the name of the metric
+     * @param help  a description of the metric
+     * @param value the supplier of the value, called from the exporter thread
+     */
+    public static Gauge gauge(String name, String help, LongSupplier value) {
+        return register(new Gauge(checkName(name), help, value));
+    }
+
+    /**
+     * Registers a set of gauges, distinguished by the value of a label.
+     *
+     * @param name  the name of the metric
+     * @param help  a description of the metric
+     * @param label the name of the label
+     */
+    public static LabeledGauge labeledGauge(String name, String help, String label) {
+        return register(new LabeledGauge(checkName(name), help, checkName(label)));
+    }
+
+    /**
+     * Registers a histogram of durations.
+     *
+     * @param name           the name of the metric, conventionally ending in {@code _seconds}
+     * @param help           a description of the metric
+     * @param bucketsSeconds the upper bounds of the buckets in seconds, in ascending order
+     */
+    public static Histogram histogram(String name, String help, double... bucketsSeconds) {
+        return register(new Histogram(checkName(name), help, bucketsSeconds));
+    }
+
+    static List<Metric> getMetrics() {
+        return METRICS;
+    }
+
+    private static <T extends Metric> T register(T metric) {
+        if (ENABLED)
+            METRICS.add(metric);
+        return metric;
+    }
+
+    private static String checkName(String name) {
+        if (!NAME_PATTERN.matcher(name).matches())
+            throw new IllegalArgumentException("Invalid metric or label name: " + name);
+        return name;
+    }
+
+    @Nullable
+    private static Path getExportFile() {
+        String file = System.getProperty("neoforge.metrics.file");
+        return file == null || file.isBlank() ? null : Path.of(file);
+    }
+}
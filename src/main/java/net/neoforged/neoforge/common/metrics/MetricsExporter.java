@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.common.metrics;
+
+import com.mojang.logging.LogUtils;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+
+/**
+ * Periodically writes all registered metrics to a file, going through a temporary file so that
+ * collectors never read a half-written file.
+ */
+final class MetricsExporter {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private MetricsExporter() {}
+
+    static void start(Path file, long intervalSeconds) {
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "NeoForge Metrics Exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1, intervalSeconds);
+        executor.scheduleWithFixedDelay(() -> export(file, tempFile), interval, interval, TimeUnit.SECONDS);
+        LOGGER.info("Exporting metrics to {} every {} seconds", file, interval);
+    }
+
+    static String format() {
+        StringBuilder out = new StringBuilder();
+        for (Metric metric : Metrics.getMetrics())
+            metric.write(out);
+        return out.toString();
+    }
+
+    private static void export(Path file, Path tempFile) {
+        try {
+            String metrics = format();
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(tempFile, metrics, StandardCharsets.UTF_8);
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (Exception e) {
+            // Catch everything, as an exception would cancel the scheduled task
+            LOGGER.error("Failed to export metrics to {}", file, e);
+        }
+    }
+}
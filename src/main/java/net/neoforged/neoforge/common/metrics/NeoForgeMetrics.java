@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.common.metrics;
+
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The metrics NeoForge records about the game's internals.
+ */
+@ApiStatus.Internal
+public final class NeoForgeMetrics {
+    public static final Histogram SERVER_TICK_TIME = Metrics.histogram("neoforge_server_tick_seconds", "Duration of server ticks",
+            0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5);
+    public static final LabeledCounter CHUNK_LOADS = Metrics.labeledCounter("neoforge_chunk_loads_total", "Chunks loaded by the server, by whether they were read from disk or generated", "origin");
+    public static final LabeledCounter PREGEN_CHUNKS = Metrics.labeledCounter("neoforge_pregen_chunks_total", "Chunks processed by /neoforge generate, by result", "result");
+    public static final LabeledCounter PAYLOADS_RECEIVED = Metrics.labeledCounter("neoforge_payloads_received_total", "Custom payloads received, by channel", "channel");
+    public static final LabeledCounter PAYLOAD_BYTES_RECEIVED = Metrics.labeledCounter("neoforge_payload_received_bytes_total", "Bytes of custom payloads received, by channel", "channel");
+    public static final LabeledGauge PAYLOAD_QUEUE_DEPTH = Metrics.labeledGauge("neoforge_payload_queue_depth", "Custom payloads waiting for their handler on the main thread or a worker thread, by channel", "channel");
+    public static final LabeledCounter PAYLOADS_HANDLED = Metrics.labeledCounter("neoforge_payloads_handled_total", "Custom payloads handled, by channel", "channel");
+    public static final LabeledCounter PAYLOAD_HANDLING_NANOS = Metrics.labeledCounter("neoforge_payload_handling_nanoseconds_total", "Time spent in custom payload handlers, by channel", "channel");
+    public static final LabeledCounter CAPABILITY_INVALIDATIONS = Metrics.labeledCounter("neoforge_capability_invalidations_total", "Block capability invalidations, by scope", "scope");
+    public static final LabeledCounter ATTACHMENT_SERIALIZATIONS = Metrics.labeledCounter("neoforge_attachment_serializations_total", "Data attachments serialized, by attachment type", "type");
+    public static final LabeledCounter ATTACHMENT_DESERIALIZATIONS = Metrics.labeledCounter("neoforge_attachment_deserializations_total", "Data attachments deserialized, by attachment type", "type");
+
+    private NeoForgeMetrics() {}
+
+    /**
+     * Records a received custom payload.
+     *
+     * @param channel the channel of the payload, or {@code null} if it is unknown to this side
+     * @param bytes   the size of the payload
+     */
+    public static void onPayloadReceived(@Nullable ResourceLocation channel, int bytes) {
+        if (!Metrics.ENABLED)
+            return;
+
+        // Unknown ids come straight from the remote side, don't let them create new labels
+        String label = channel == null ? "unknown" : channel.toString();
+        PAYLOADS_RECEIVED.increment(label);
+        PAYLOAD_BYTES_RECEIVED.add(label, bytes);
+    }
+
+    /**
+     * Records the handling of a payload of a known channel.
+     *
+     * @param channel the channel of the payload
+     * @param nanos   the time spent in the handler
+     */
+    public static void onPayloadHandled(ResourceLocation channel, long nanos) {
+        if (!Metrics.ENABLED)
+            return;
+
+        String label = channel.toString();
+        PAYLOADS_HANDLED.increment(label);
+        PAYLOAD_HANDLING_NANOS.add(label, nanos);
+    }
+
+    /**
+     * Records a payload being queued for its handler on the main thread or a worker thread.
+     */
+    public static void onPayloadQueued(ResourceLocation channel) {
+        if (Metrics.ENABLED)
+            PAYLOAD_QUEUE_DEPTH.increment(channel.toString());
+    }
+
+    /**
+     * Records a queued payload being taken out of its queue.
+     */
+    public static void onPayloadDequeued(ResourceLocation channel) {
+        if (Metrics.ENABLED)
+            PAYLOAD_QUEUE_DEPTH.decrement(channel.toString());
+    }
+}
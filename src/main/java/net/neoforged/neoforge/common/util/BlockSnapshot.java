@@ -58,7 +58,9 @@ public class BlockSnapshot {
     }
 
     public static BlockSnapshot create(ResourceKey<Level> dim, LevelAccessor world, BlockPos pos, int flag) {
-        return new BlockSnapshot(dim, world, pos, world.getBlockState(pos), getBlockEntityTag(world.getBlockEntity(pos)), flag);
+        BlockState state = world.getBlockState(pos);
+        // Skip the block entity lookup for the common case of blocks without one
+        return new BlockSnapshot(dim, world, pos, state, state.hasBlockEntity() ? getBlockEntityTag(world.getBlockEntity(pos)) : null, flag);
     }
 
     @Nullable
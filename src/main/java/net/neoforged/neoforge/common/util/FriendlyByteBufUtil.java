@@ -6,6 +6,7 @@
 package net.neoforged.neoforge.common.util;
 
 import io.netty.buffer.Unpooled;
+import java.util.Arrays;
 import java.util.function.Consumer;
 import net.minecraft.network.FriendlyByteBuf;
 
@@ -21,13 +22,14 @@ public class FriendlyByteBufUtil {
      * Writes custom data to a {@link FriendlyByteBuf}, then returns the written data as a byte array.
      *
      * @param dataWriter The data writer.
-     * @return The written data.
+     * @return The written data, without any unused capacity of the buffer.
      */
     public static byte[] writeCustomData(Consumer<FriendlyByteBuf> dataWriter) {
         final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
         try {
             dataWriter.accept(buf);
-            return buf.array();
+            final byte[] array = buf.array();
+            return buf.writerIndex() == array.length ? array : Arrays.copyOf(array, buf.writerIndex());
         } finally {
             buf.release();
         }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.common.world;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.SoundType;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The precomputed values of the {@link CachedBlockProperty position-independent properties} of a {@link BlockState},
+ * which let the positional getters of the state skip the call to the block hook.
+ * <p>
+ * The caches are computed for all states when the block registry is baked, and the fire properties of a block are
+ * recomputed when it is registered as flammable.
+ */
+@ApiStatus.Internal
+public final class BlockStatePropertyCache {
+    public static final BlockStatePropertyCache EMPTY = new BlockStatePropertyCache(0, 0, 0, 0, null, 0, 0);
+
+    private final int cached;
+    private final float friction;
+    private final int lightEmission;
+    private final float explosionResistance;
+    @Nullable
+    private final SoundType soundType;
+    private final int flammability;
+    private final int fireSpreadSpeed;
+
+    private BlockStatePropertyCache(int cached, float friction, int lightEmission, float explosionResistance, @Nullable SoundType soundType, int flammability, int fireSpreadSpeed) {
+        this.cached = cached;
+        this.friction = friction;
+        this.lightEmission = lightEmission;
+        this.explosionResistance = explosionResistance;
+        this.soundType = soundType;
+        this.flammability = flammability;
+        this.fireSpreadSpeed = fireSpreadSpeed;
+    }
+
+    public boolean has(CachedBlockProperty property) {
+        return (cached & property.mask()) != 0;
+    }
+
+    public float friction() {
+        return friction;
+    }
+
+    public int lightEmission() {
+        return lightEmission;
+    }
+
+    public float explosionResistance() {
+        return explosionResistance;
+    }
+
+    @Nullable
+    public SoundType soundType() {
+        return soundType;
+    }
+
+    public int flammability() {
+        return flammability;
+    }
+
+    public int fireSpreadSpeed() {
+        return fireSpreadSpeed;
+    }
+
+    /**
+     * Computes the cache of the state. The hooks that the block declares position-independent are queried
+     * with an empty level, the origin position and no entity or explosion.
+     */
+    public static BlockStatePropertyCache compute(BlockState state) {
+        Block block = state.getBlock();
+        EmptyBlockGetter level = EmptyBlockGetter.INSTANCE;
+        BlockPos pos = BlockPos.ZERO;
+        int cached = 0;
+        float friction = 0;
+        int lightEmission = 0;
+        float explosionResistance = 0;
+        SoundType soundType = null;
+        int flammability = 0;
+        int fireSpreadSpeed = 0;
+
+        if (block.isPositionIndependent(state, CachedBlockProperty.FRICTION)) {
+            cached |= CachedBlockProperty.FRICTION.mask();
+            friction = block.getFriction(state, level, pos, null);
+        }
+        if (block.isPositionIndependent(state, CachedBlockProperty.LIGHT_EMISSION)) {
+            cached |= CachedBlockProperty.LIGHT_EMISSION.mask();
+            lightEmission = block.getLightEmission(state, level, pos);
+        }
+        if (block.isPositionIndependent(state, CachedBlockProperty.EXPLOSION_RESISTANCE)) {
+            cached |= CachedBlockProperty.EXPLOSION_RESISTANCE.mask();
+            explosionResistance = block.getExplosionResistance(state, level, pos, null);
+        }
+        if (block.isPositionIndependent(state, CachedBlockProperty.SOUND_TYPE)) {
+            cached |= CachedBlockProperty.SOUND_TYPE.mask();
+            soundType = block.getSoundType(state, level, pos, null);
+        }
+        if (block.isPositionIndependent(state, CachedBlockProperty.FLAMMABILITY)) {
+            cached |= CachedBlockProperty.FLAMMABILITY.mask();
+            flammability = block.getFlammability(state, level, pos, Direction.UP);
+        }
+        if (block.isPositionIndependent(state, CachedBlockProperty.FIRE_SPREAD_SPEED)) {
+            cached |= CachedBlockProperty.FIRE_SPREAD_SPEED.mask();
+            fireSpreadSpeed = block.getFireSpreadSpeed(state, level, pos, Direction.UP);
+        }
+        return cached == 0 ? EMPTY : new BlockStatePropertyCache(cached, friction, lightEmission, explosionResistance, soundType, flammability, fireSpreadSpeed);
+    }
+
+    /**
+     * Computes the caches of all the states of the block.
+     */
+    public static void computeAll(Block block) {
+        for (BlockState state : block.getStateDefinition().getPossibleStates())
+            state.setPropertyCache(compute(state));
+    }
+
+    /**
+     * Recomputes the caches of the states of the block after its flammability changed.
+     */
+    public static void onFlammabilityChanged(Block block) {
+        computeAll(block);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.common.world;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Explosion;
+import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.neoforge.common.extensions.IBlockExtension;
+
+/**
+ * The block properties queried through a positional {@link IBlockExtension} hook that can be precomputed per {@link BlockState}
+ * when the block declares them as position-independent.
+ *
+ * @see IBlockExtension#isPositionIndependent(BlockState, CachedBlockProperty)
+ */
+public enum CachedBlockProperty {
+    /**
+     * @see IBlockExtension#getFriction(BlockState, LevelReader, BlockPos, Entity)
+     */
+    FRICTION("getFriction", BlockState.class, LevelReader.class, BlockPos.class, Entity.class),
+    /**
+     * @see IBlockExtension#getLightEmission(BlockState, BlockGetter, BlockPos)
+     */
+    LIGHT_EMISSION("getLightEmission", BlockState.class, BlockGetter.class, BlockPos.class),
+    /**
+     * @see IBlockExtension#getExplosionResistance(BlockState, BlockGetter, BlockPos, Explosion)
+     */
+    EXPLOSION_RESISTANCE("getExplosionResistance", BlockState.class, BlockGetter.class, BlockPos.class, Explosion.class),
+    /**
+     * @see IBlockExtension#getSoundType(BlockState, LevelReader, BlockPos, Entity)
+     */
+    SOUND_TYPE("getSoundType", BlockState.class, LevelReader.class, BlockPos.class, Entity.class),
+    /**
+     * The value must also not depend on the direction the fire is coming from.
+     *
+     * @see IBlockExtension#getFlammability(BlockState, BlockGetter, BlockPos, Direction)
+     */
+    FLAMMABILITY("getFlammability", BlockState.class, BlockGetter.class, BlockPos.class, Direction.class),
+    /**
+     * The value must also not depend on the direction the fire is coming from.
+     *
+     * @see IBlockExtension#getFireSpreadSpeed(BlockState, BlockGetter, BlockPos, Direction)
+     */
+    FIRE_SPREAD_SPEED("getFireSpreadSpeed", BlockState.class, BlockGetter.class, BlockPos.class, Direction.class);
+
+    private static final ClassValue<Integer> DEFAULT_HOOKS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            int mask = 0;
+            for (CachedBlockProperty property : values()) {
+                try {
+                    if (type.getMethod(property.hookName, property.hookParameters).getDeclaringClass() == IBlockExtension.class)
+                        mask |= property.mask;
+                } catch (NoSuchMethodException e) {
+                    throw new IllegalStateException("Missing hook " + property.hookName + " of " + property, e);
+                }
+            }
+            return mask;
+        }
+    };
+
+    private final String hookName;
+    private final Class<?>[] hookParameters;
+    private final int mask = 1 << ordinal();
+
+    CachedBlockProperty(String hookName, Class<?>... hookParameters) {
+        this.hookName = hookName;
+        this.hookParameters = hookParameters;
+    }
+
+    int mask() {
+        return mask;
+    }
+
+    /**
+     * {@return whether the given block uses the default implementation of the hook of this property}
+     * The default implementations of all the hooks only depend on the state.
+     */
+    public boolean usesDefaultHook(Block block) {
+        return (DEFAULT_HOOKS.get(block.getClass()) & mask) != 0;
+    }
+}
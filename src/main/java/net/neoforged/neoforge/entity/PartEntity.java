@@ -8,9 +8,14 @@ package net.neoforged.neoforge.entity;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class PartEntity<T extends Entity> extends Entity {
     private final T parent;
+    /** The index this part is filed in, if any, along with the section it is filed under */
+    @Nullable
+    PartEntityIndex index;
+    long indexedSection;
 
     public PartEntity(T parent) {
         super(parent.getType(), parent.level());
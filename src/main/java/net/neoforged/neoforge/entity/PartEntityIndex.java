@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.entity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.AbortableIterationConsumer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.entity.EntityInLevelCallback;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Spatial index of the {@link PartEntity part entities} of a level, bucketed by the section containing their position.
+ * <p>
+ * Part entities are not tracked by the level's entity storage, so without this index
+ * every bounding box query would have to test every part in the level.
+ * Parts are re-filed through their {@link EntityInLevelCallback level callback}, which is notified of every move,
+ * including those through {@link Entity#setPosRaw(double, double, double)}, in the same way as for the level's entity sections.
+ * <p>
+ * Queries are widened by the largest part size seen so far, so that parts whose bounding box
+ * reaches into the queried area from a neighbouring section are still found.
+ */
+@ApiStatus.Internal
+public final class PartEntityIndex {
+    private final Long2ObjectMap<List<PartEntity<?>>> sections = new Long2ObjectOpenHashMap<>();
+    private double maxPartSize = 0;
+
+    public void add(PartEntity<?> part) {
+        if (part.index != null)
+            part.index.remove(part);
+
+        part.index = this;
+        part.setLevelCallback(new Callback(part));
+        file(part);
+    }
+
+    public void remove(PartEntity<?> part) {
+        if (part.index != this)
+            return;
+
+        unfile(part);
+        part.index = null;
+        part.setLevelCallback(EntityInLevelCallback.NULL);
+    }
+
+    /**
+     * Called when a part in this index moved, to move it to the bucket of its new section if needed.
+     */
+    private void onMoved(PartEntity<?> part) {
+        if (SectionPos.asLong(part.blockPosition()) != part.indexedSection) {
+            unfile(part);
+            file(part);
+        } else {
+            updateMaxPartSize(part);
+        }
+    }
+
+    /**
+     * Passes all parts whose bounding box intersects the given area to the consumer, until it aborts.
+     */
+    public void getEntities(AABB area, AbortableIterationConsumer<PartEntity<?>> consumer) {
+        if (sections.isEmpty())
+            return;
+
+        int minX = SectionPos.posToSectionCoord(area.minX - maxPartSize);
+        int minY = SectionPos.posToSectionCoord(area.minY - maxPartSize);
+        int minZ = SectionPos.posToSectionCoord(area.minZ - maxPartSize);
+        int maxX = SectionPos.posToSectionCoord(area.maxX + maxPartSize);
+        int maxY = SectionPos.posToSectionCoord(area.maxY + maxPartSize);
+        int maxZ = SectionPos.posToSectionCoord(area.maxZ + maxPartSize);
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    List<PartEntity<?>> parts = sections.get(SectionPos.asLong(x, y, z));
+                    if (parts == null)
+                        continue;
+
+                    for (int i = 0; i < parts.size(); i++) {
+                        PartEntity<?> part = parts.get(i);
+                        if (part.getBoundingBox().intersects(area) && consumer.accept(part).shouldAbort())
+                            return;
+                    }
+                }
+            }
+        }
+    }
+
+    private void file(PartEntity<?> part) {
+        part.indexedSection = SectionPos.asLong(part.blockPosition());
+        sections.computeIfAbsent(part.indexedSection, k -> new ArrayList<>()).add(part);
+        updateMaxPartSize(part);
+    }
+
+    private void unfile(PartEntity<?> part) {
+        List<PartEntity<?>> parts = sections.get(part.indexedSection);
+        if (parts != null) {
+            parts.remove(part);
+            if (parts.isEmpty())
+                sections.remove(part.indexedSection);
+        }
+    }
+
+    private void updateMaxPartSize(PartEntity<?> part) {
+        // The bounding box is only moved after the callback, but its size already matches the dimensions
+        maxPartSize = Math.max(maxPartSize, Math.max(part.getBbWidth(), part.getBbHeight()));
+    }
+
+    private class Callback implements EntityInLevelCallback {
+        private final PartEntity<?> part;
+
+        private Callback(PartEntity<?> part) {
+            this.part = part;
+        }
+
+        @Override
+        public void onMove() {
+            onMoved(part);
+        }
+
+        @Override
+        public void onRemove(Entity.RemovalReason reason) {
+            remove(part);
+        }
+    }
+}
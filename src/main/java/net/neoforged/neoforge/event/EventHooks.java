@@ -178,10 +178,30 @@ public class EventHooks {
         return NeoForge.EVENT_BUS.post(event).isCanceled();
     }
 
-    public static NeighborNotifyEvent onNeighborNotify(Level level, BlockPos pos, BlockState state, EnumSet<Direction> notifiedSides, boolean forceRedstoneUpdate) {
-        NeighborNotifyEvent event = new NeighborNotifyEvent(level, pos, state, notifiedSides, forceRedstoneUpdate);
-        NeoForge.EVENT_BUS.post(event);
-        return event;
+    /**
+     * Fires {@link NeighborNotifyEvent}, unless nothing listens to it.
+     *
+     * @return {@code true} if the neighbor updates should be skipped
+     */
+    public static boolean onNeighborNotify(Level level, BlockPos pos, BlockState state, EnumSet<Direction> notifiedSides, boolean forceRedstoneUpdate) {
+        if (!NeoForge.EVENT_BUS_LISTENERS.hasListeners(NeighborNotifyEvent.class))
+            return false;
+        return NeoForge.EVENT_BUS.post(new NeighborNotifyEvent(level, pos, state, notifiedSides, forceRedstoneUpdate)).isCanceled();
+    }
+
+    /**
+     * Fires {@link NeighborNotifyEvent} for all sides of the given position but the skipped one, unless nothing listens to it.
+     * The notified sides and the block state are only looked up if the event is fired.
+     *
+     * @return {@code true} if the neighbor updates should be skipped
+     */
+    public static boolean onNeighborNotify(Level level, BlockPos pos, @Nullable Direction skipSide) {
+        if (!NeoForge.EVENT_BUS_LISTENERS.hasListeners(NeighborNotifyEvent.class))
+            return false;
+        EnumSet<Direction> notifiedSides = EnumSet.allOf(Direction.class);
+        if (skipSide != null)
+            notifiedSides.remove(skipSide);
+        return onNeighborNotify(level, pos, level.getBlockState(pos), notifiedSides, false);
     }
 
     public static boolean doPlayerHarvestCheck(Player player, BlockState state, boolean success) {
@@ -191,6 +211,8 @@ public class EventHooks {
     }
 
     public static float getBreakSpeed(Player player, BlockState state, float original, BlockPos pos) {
+        if (!NeoForge.EVENT_BUS_LISTENERS.hasListeners(PlayerEvent.BreakSpeed.class))
+            return original;
         PlayerEvent.BreakSpeed event = new PlayerEvent.BreakSpeed(player, state, original, pos);
         return (NeoForge.EVENT_BUS.post(event).isCanceled() ? -1 : event.getNewSpeed());
     }
@@ -206,6 +228,8 @@ public class EventHooks {
      */
     @ApiStatus.Internal
     public static boolean checkSpawnPlacements(EntityType<?> entityType, ServerLevelAccessor level, MobSpawnType spawnType, BlockPos pos, RandomSource random, boolean defaultResult) {
+        if (!NeoForge.EVENT_BUS_LISTENERS.hasListeners(SpawnPlacementCheck.class))
+            return defaultResult;
         var event = new SpawnPlacementCheck(entityType, level, spawnType, pos, random, defaultResult);
         NeoForge.EVENT_BUS.post(event);
         return event.getResult() == Result.DEFAULT ? defaultResult : event.getResult() == Result.ALLOW;
@@ -462,7 +486,15 @@ public class EventHooks {
         return event;
     }
 
+    /**
+     * Fires {@link PlayLevelSoundEvent.AtPosition}, unless nothing listens to it.
+     *
+     * @return the fired event, or {@code null} if nothing listens to it and the sound should be played unchanged
+     */
+    @Nullable
     public static PlayLevelSoundEvent.AtPosition onPlaySoundAtPosition(Level level, double x, double y, double z, Holder<SoundEvent> name, SoundSource category, float volume, float pitch) {
+        if (!NeoForge.EVENT_BUS_LISTENERS.hasListeners(PlayLevelSoundEvent.AtPosition.class))
+            return null;
         PlayLevelSoundEvent.AtPosition event = new PlayLevelSoundEvent.AtPosition(level, new Vec3(x, y, z), name, category, volume, pitch);
         NeoForge.EVENT_BUS.post(event);
         return event;
@@ -722,13 +754,29 @@ public class EventHooks {
         NeoForge.EVENT_BUS.post(event);
     }
 
+    /**
+     * Fires {@link EntityEvent.Size}, unless nothing listens to it.
+     *
+     * @return the fired event, or {@code null} if nothing listens to it and the size is unchanged
+     */
+    @Nullable
     public static EntityEvent.Size getEntitySizeForge(Entity entity, Pose pose, EntityDimensions size, float eyeHeight) {
+        if (!NeoForge.EVENT_BUS_LISTENERS.hasListeners(EntityEvent.Size.class))
+            return null;
         EntityEvent.Size evt = new EntityEvent.Size(entity, pose, size, eyeHeight);
         NeoForge.EVENT_BUS.post(evt);
         return evt;
     }
 
+    /**
+     * Fires {@link EntityEvent.Size}, unless nothing listens to it.
+     *
+     * @return the fired event, or {@code null} if nothing listens to it and the size is unchanged
+     */
+    @Nullable
     public static EntityEvent.Size getEntitySizeForge(Entity entity, Pose pose, EntityDimensions oldSize, EntityDimensions newSize, float newEyeHeight) {
+        if (!NeoForge.EVENT_BUS_LISTENERS.hasListeners(EntityEvent.Size.class))
+            return null;
         EntityEvent.Size evt = new EntityEvent.Size(entity, pose, oldSize, newSize, entity.getEyeHeight(), newEyeHeight);
         NeoForge.EVENT_BUS.post(evt);
         return evt;
@@ -854,7 +902,7 @@ public class EventHooks {
         LevelEvent.PotentialSpawns event = new LevelEvent.PotentialSpawns(level, category, pos, oldList);
         if (NeoForge.EVENT_BUS.post(event).isCanceled())
             return WeightedRandomList.create();
-        return WeightedRandomList.create(event.getSpawnerDataList());
+        return event.getResultList();
     }
 
     public static StatAwardEvent onStatAward(Player player, Stat<?> stat, int value) {
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.event;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import net.neoforged.bus.api.Event;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.common.NeoForge;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Tracks the event types that listeners were registered for on an {@link IEventBus},
+ * so that hot hooks can skip constructing and posting events that nothing listens to.
+ * <p>
+ * The bus reports each registration through its class checker, which it calls with the event type of every listener it registers.
+ * Unregistering a listener is not tracked, so an event type that once had listeners is always considered to have some.
+ *
+ * @see NeoForge#EVENT_BUS_LISTENERS
+ */
+@ApiStatus.Internal
+public final class EventListenerTracker {
+    private final Set<Class<?>> listenedTypes = ConcurrentHashMap.newKeySet();
+    /**
+     * Whether each queried event class has listeners. Only written while holding the lock,
+     * so that a result cannot outlive the registration of a listener for one of its supertypes.
+     */
+    private final Map<Class<?>, Boolean> hasListeners = new ConcurrentHashMap<>();
+
+    /**
+     * Records that a listener was registered for the given event type, which also receives all of its subtypes.
+     */
+    public synchronized void onListenerRegistered(Class<?> eventType) {
+        if (listenedTypes.add(eventType))
+            hasListeners.clear();
+    }
+
+    /**
+     * {@return whether a listener that would receive events of the given class was registered}
+     */
+    public boolean hasListeners(Class<? extends Event> eventClass) {
+        Boolean result = hasListeners.get(eventClass);
+        return result != null ? result : computeHasListeners(eventClass);
+    }
+
+    private synchronized boolean computeHasListeners(Class<? extends Event> eventClass) {
+        boolean result = false;
+        for (Class<?> listenedType : listenedTypes) {
+            if (listenedType.isAssignableFrom(eventClass)) {
+                result = true;
+                break;
+            }
+        }
+        hasListeners.put(eventClass, result);
+        return result;
+    }
+}
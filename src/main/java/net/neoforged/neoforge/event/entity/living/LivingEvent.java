@@ -44,7 +44,8 @@ public abstract class LivingEvent extends EntityEvent {
      * <br>
      * This event does not have a result. {@link HasResult}<br>
      * <br>
-     * This event is fired on the {@link NeoForge#EVENT_BUS}.
+     * This event is fired on the {@link NeoForge#EVENT_BUS}.<br>
+     * Listeners only interested in specific entity types should use {@link LivingTickListeners} instead.
      **/
     public static class LivingTickEvent extends LivingEvent implements ICancellableEvent {
         public LivingTickEvent(LivingEntity e) {
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.event.entity.living;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.neoforged.neoforge.common.CommonHooks;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Registry for tick listeners that only target specific {@link EntityType entity types} or entity classes.
+ * <p>
+ * Listeners registered here are called from {@link CommonHooks#onLivingTick(LivingEntity)} before the
+ * {@link LivingEvent.LivingTickEvent} is posted, but only for entities they target. If one of them cancels the tick,
+ * the event is posted already canceled, so only bus listeners that receive canceled events see it. Prefer this over a
+ * {@link LivingEvent.LivingTickEvent} listener that immediately filters on the entity type,
+ * as entities of other types do not pay for the listener at all, and the event is not even constructed while nothing
+ * listens to it on the bus.
+ * <p>
+ * Listeners may be registered from any thread, typically during mod construction.
+ */
+public final class LivingTickListeners {
+    private static final Listener<?>[] NO_LISTENERS = new Listener<?>[0];
+
+    /**
+     * Listeners by entity type. Replaced as a whole on registration, so that reads need no synchronization.
+     */
+    private static volatile Map<EntityType<?>, Listener<?>[]> typeListeners = new Reference2ObjectOpenHashMap<>();
+    private static final List<ClassListener<?>> classListeners = new CopyOnWriteArrayList<>();
+    /**
+     * Class listeners resolved for each concrete entity class that ticked. Only written while holding the registration lock,
+     * so that a resolution cannot outlive the registration of a new class listener.
+     */
+    private static final Map<Class<?>, Listener<?>[]> resolvedClassListeners = new ConcurrentHashMap<>();
+    /**
+     * Whether any listener was registered, so that entities skip the lookups until then.
+     */
+    private static volatile boolean hasListeners;
+
+    private LivingTickListeners() {}
+
+    /**
+     * Registers a listener that is called every tick for each living entity of the given type.
+     *
+     * @param type     the entity type to listen to
+     * @param listener the listener
+     */
+    public static synchronized <T extends LivingEntity> void register(EntityType<T> type, Listener<? super T> listener) {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(listener);
+
+        var newListeners = new Reference2ObjectOpenHashMap<>(typeListeners);
+        newListeners.put(type, append(newListeners.getOrDefault(type, NO_LISTENERS), listener));
+        typeListeners = newListeners;
+        hasListeners = true;
+    }
+
+    /**
+     * Registers a listener that is called every tick for each living entity that is an instance of the given class.
+     *
+     * @param entityClass the entity class to listen to, subclasses included
+     * @param listener    the listener
+     */
+    public static synchronized <T extends LivingEntity> void register(Class<T> entityClass, Listener<? super T> listener) {
+        Objects.requireNonNull(entityClass);
+        Objects.requireNonNull(listener);
+
+        classListeners.add(new ClassListener<>(entityClass, listener));
+        resolvedClassListeners.clear();
+        hasListeners = true;
+    }
+
+    /**
+     * Calls the listeners targeting the given entity.
+     * The {@link LivingEvent.LivingTickEvent} is posted afterwards if anything listens to it, already canceled if a listener canceled the tick.
+     *
+     * @return {@code true} if a listener canceled the tick
+     */
+    @ApiStatus.Internal
+    public static boolean onLivingTick(LivingEntity entity) {
+        if (!hasListeners)
+            return false;
+
+        Listener<?>[] byType = typeListeners.get(entity.getType());
+        if (byType != null && dispatch(byType, entity))
+            return true;
+
+        if (classListeners.isEmpty())
+            return false;
+
+        Listener<?>[] byClass = resolvedClassListeners.get(entity.getClass());
+        if (byClass == null)
+            byClass = resolveClassListeners(entity.getClass());
+        return dispatch(byClass, entity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean dispatch(Listener<?>[] listeners, LivingEntity entity) {
+        for (Listener<?> listener : listeners) {
+            if (((Listener<LivingEntity>) listener).onTick(entity))
+                return true;
+        }
+        return false;
+    }
+
+    private static synchronized Listener<?>[] resolveClassListeners(Class<?> entityClass) {
+        Listener<?>[] listeners = NO_LISTENERS;
+        for (ClassListener<?> classListener : classListeners) {
+            if (classListener.entityClass().isAssignableFrom(entityClass))
+                listeners = append(listeners, classListener.listener());
+        }
+        resolvedClassListeners.put(entityClass, listeners);
+        return listeners;
+    }
+
+    private static Listener<?>[] append(Listener<?>[] listeners, Listener<?> listener) {
+        Listener<?>[] newListeners = new Listener<?>[listeners.length + 1];
+        System.arraycopy(listeners, 0, newListeners, 0, listeners.length);
+        newListeners[listeners.length] = listener;
+        return newListeners;
+    }
+
+    private record ClassListener<T extends LivingEntity>(Class<T> entityClass, Listener<? super T> listener) {}
+
+    @FunctionalInterface
+    public interface Listener<T extends LivingEntity> {
+        /**
+         * Called when a targeted entity is ticked.
+         *
+         * @param entity the entity being ticked
+         * @return {@code true} to cancel the tick, in the same way as canceling {@link LivingEvent.LivingTickEvent}
+         */
+        boolean onTick(T entity);
+    }
+}
@@ -5,8 +5,8 @@
 
 package net.neoforged.neoforge.event.level;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.screens.Screen;
@@ -24,6 +24,8 @@ import net.neoforged.bus.api.Event;
 import net.neoforged.bus.api.ICancellableEvent;
 import net.neoforged.fml.LogicalSide;
 import net.neoforged.neoforge.common.NeoForge;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * This event is fired whenever an event involving a {@link LevelAccessor} occurs.
@@ -133,19 +135,30 @@ public abstract class LevelEvent extends Event {
     public static class PotentialSpawns extends LevelEvent implements ICancellableEvent {
         private final MobCategory mobcategory;
         private final BlockPos pos;
-        private final List<MobSpawnSettings.SpawnerData> list;
+        private final WeightedRandomList<MobSpawnSettings.SpawnerData> oldList;
+        /**
+         * The modified spawn list, only copied from {@link #oldList} once a listener changes it.
+         */
+        @Nullable
+        private List<MobSpawnSettings.SpawnerData> list;
         private final List<MobSpawnSettings.SpawnerData> view;
 
         public PotentialSpawns(LevelAccessor level, MobCategory category, BlockPos pos, WeightedRandomList<MobSpawnSettings.SpawnerData> oldList) {
             super(level);
             this.pos = pos;
             this.mobcategory = category;
-            if (!oldList.isEmpty())
-                this.list = new ArrayList<>(oldList.unwrap());
-            else
-                this.list = new ArrayList<>();
-
-            this.view = Collections.unmodifiableList(list);
+            this.oldList = oldList;
+            this.view = new AbstractList<>() {
+                @Override
+                public MobSpawnSettings.SpawnerData get(int index) {
+                    return list != null ? list.get(index) : oldList.unwrap().get(index);
+                }
+
+                @Override
+                public int size() {
+                    return list != null ? list.size() : oldList.unwrap().size();
+                }
+            };
         }
 
         /**
@@ -175,7 +188,7 @@ public abstract class LevelEvent extends Event {
          * @param data SpawnerData entry to be appended to the spawn list.
          */
         public void addSpawnerData(MobSpawnSettings.SpawnerData data) {
-            list.add(data);
+            getOrCopyList().add(data);
         }
 
         /**
@@ -186,7 +199,21 @@ public abstract class LevelEvent extends Event {
          *             {@return {@code true} if the spawn list contained the specified element.}
          */
         public boolean removeSpawnerData(MobSpawnSettings.SpawnerData data) {
-            return list.remove(data);
+            return getOrCopyList().remove(data);
+        }
+
+        /**
+         * {@return the spawn list resulting from this event, which is the original list if no listener changed it}
+         */
+        @ApiStatus.Internal
+        public WeightedRandomList<MobSpawnSettings.SpawnerData> getResultList() {
+            return list != null ? WeightedRandomList.create(list) : oldList;
+        }
+
+        private List<MobSpawnSettings.SpawnerData> getOrCopyList() {
+            if (list == null)
+                list = new ArrayList<>(oldList.unwrap());
+            return list;
         }
     }
 }
@@ -5,8 +5,8 @@
 
 package net.neoforged.neoforge.fluids;
 
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +20,7 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.material.FluidState;
 import net.neoforged.neoforge.common.NeoForgeMod;
 import net.neoforged.neoforge.event.EventHooks;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A registry which defines the interactions a source fluid can have with its
@@ -30,9 +31,16 @@ import net.neoforged.neoforge.event.EventHooks;
  * As such, all directions, besides {@link Direction#DOWN} is tested and then replaced.
  * Any fluids which cause a change in the down interaction must be handled in
  * {@code FlowingFluid#spreadTo} and not by this interaction manager.
+ *
+ * <p>The registered interactions are frozen into a lookup table on first use, and
+ * the table is rebuilt if interactions are added afterwards. In the table, the interactions
+ * that require a specific surrounding {@link FluidType} are bucketed by that type, so
+ * that only the interactions which can apply to a surrounding fluid are tested.
  */
 public final class FluidInteractionRegistry {
     private static final Map<FluidType, List<InteractionInformation>> INTERACTIONS = new HashMap<>();
+    @Nullable
+    private static volatile Map<FluidType, SourceInteractions> frozenInteractions;
 
     /**
      * Adds an interaction between a source and its surroundings.
@@ -42,6 +50,23 @@ public final class FluidInteractionRegistry {
      */
     public static synchronized void addInteraction(FluidType source, InteractionInformation interaction) {
         INTERACTIONS.computeIfAbsent(source, s -> new ArrayList<>()).add(interaction);
+        frozenInteractions = null;
+    }
+
+    private static Map<FluidType, SourceInteractions> getFrozenInteractions() {
+        Map<FluidType, SourceInteractions> frozen = frozenInteractions;
+        if (frozen == null) {
+            synchronized (FluidInteractionRegistry.class) {
+                frozen = frozenInteractions;
+                if (frozen == null) {
+                    frozen = new Reference2ObjectOpenHashMap<>(INTERACTIONS.size());
+                    for (Map.Entry<FluidType, List<InteractionInformation>> entry : INTERACTIONS.entrySet())
+                        frozen.put(entry.getKey(), SourceInteractions.of(entry.getValue()));
+                    frozenInteractions = frozen;
+                }
+            }
+        }
+        return frozen;
     }
 
     /**
@@ -55,11 +80,15 @@ public final class FluidInteractionRegistry {
      */
     public static boolean canInteract(Level level, BlockPos pos) {
         FluidState state = level.getFluidState(pos);
+        SourceInteractions interactions = getFrozenInteractions().get(state.getFluidType());
+        if (interactions == null)
+            return false;
+
         for (Direction direction : LiquidBlock.POSSIBLE_FLOW_DIRECTIONS) {
             BlockPos relativePos = pos.relative(direction.getOpposite());
-            List<InteractionInformation> interactions = INTERACTIONS.getOrDefault(state.getFluidType(), Collections.emptyList());
-            for (InteractionInformation interaction : interactions) {
-                if (interaction.predicate().test(level, pos, relativePos, state)) {
+            for (InteractionInformation interaction : interactions.get(level, relativePos)) {
+                // Interactions bucketed by their surrounding fluid type are known to match it
+                if (interaction.predicate() instanceof NeighbourTypePredicate || interaction.predicate().test(level, pos, relativePos, state)) {
                     interaction.interaction().interact(level, pos, relativePos, state);
                     return true;
                 }
@@ -81,6 +110,47 @@ public final class FluidInteractionRegistry {
                 Blocks.BASALT.defaultBlockState()));
     }
 
+    /**
+     * The frozen interactions of a source fluid type.
+     *
+     * @param byNeighbour the interactions to test for each surrounding fluid type required by an interaction, in registration order
+     * @param fallback    the interactions to test for other surrounding fluid types, which do not require a type
+     */
+    private record SourceInteractions(Map<FluidType, InteractionInformation[]> byNeighbour, InteractionInformation[] fallback) {
+        static SourceInteractions of(List<InteractionInformation> interactions) {
+            Map<FluidType, InteractionInformation[]> byNeighbour = new Reference2ObjectOpenHashMap<>();
+            for (InteractionInformation interaction : interactions) {
+                FluidType type = neighbourType(interaction);
+                if (type != null && !byNeighbour.containsKey(type)) {
+                    byNeighbour.put(type, interactions.stream()
+                            .filter(other -> neighbourType(other) == null || neighbourType(other) == type)
+                            .toArray(InteractionInformation[]::new));
+                }
+            }
+            InteractionInformation[] fallback = interactions.stream()
+                    .filter(interaction -> neighbourType(interaction) == null)
+                    .toArray(InteractionInformation[]::new);
+            return new SourceInteractions(byNeighbour, fallback);
+        }
+
+        /**
+         * {@return the type of the fluid that must be surrounding the source, if the interaction only tests for that type}
+         */
+        @Nullable
+        private static FluidType neighbourType(InteractionInformation interaction) {
+            return interaction.predicate() instanceof NeighbourTypePredicate predicate ? predicate.type() : null;
+        }
+
+        /**
+         * {@return the interactions to test against the surroundings at the given position}
+         */
+        InteractionInformation[] get(Level level, BlockPos relativePos) {
+            if (byNeighbour.isEmpty())
+                return fallback;
+            return byNeighbour.getOrDefault(level.getFluidState(relativePos).getFluidType(), fallback);
+        }
+    }
+
     /**
      * Holds the interaction data for a given source type on when to succeed
      * and what to perform.
@@ -118,7 +188,7 @@ public final class FluidInteractionRegistry {
          * @param getState a function to transform the source fluid into a block state
          */
         public InteractionInformation(FluidType type, Function<FluidState, BlockState> getState) {
-            this((level, currentPos, relativePos, currentState) -> level.getFluidState(relativePos).getFluidType() == type, getState);
+            this(new NeighbourTypePredicate(type), placeBlock(getState));
         }
 
         /**
@@ -128,10 +198,24 @@ public final class FluidInteractionRegistry {
          * @param getState  a function to transform the source fluid into a block state
          */
         public InteractionInformation(HasFluidInteraction predicate, Function<FluidState, BlockState> getState) {
-            this(predicate, (level, currentPos, relativePos, currentState) -> {
+            this(predicate, placeBlock(getState));
+        }
+
+        private static FluidInteraction placeBlock(Function<FluidState, BlockState> getState) {
+            return (level, currentPos, relativePos, currentState) -> {
                 level.setBlockAndUpdate(currentPos, EventHooks.fireFluidPlaceBlockEvent(level, currentPos, currentPos, getState.apply(currentState)));
                 level.levelEvent(1501, currentPos, 0);
-            });
+            };
+        }
+    }
+
+    /**
+     * The predicate of the interactions created from a surrounding {@link FluidType}, by which they are bucketed.
+     */
+    private record NeighbourTypePredicate(FluidType type) implements HasFluidInteraction {
+        @Override
+        public boolean test(Level level, BlockPos currentPos, BlockPos relativePos, FluidState currentState) {
+            return level.getFluidState(relativePos).getFluidType() == type;
         }
     }
 
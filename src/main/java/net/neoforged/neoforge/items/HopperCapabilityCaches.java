@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.items;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.HopperBlockEntity;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds the {@link BlockCapabilityCache}s used by a {@link HopperBlockEntity} to look up the item handlers
+ * it pushes items into and pulls items from, so that {@link VanillaInventoryCodeHooks} does not need
+ * to query the level for every transfer attempt.
+ *
+ * <p>The caches are created lazily, and recreated if the hopper was moved to another level or its facing changed.
+ */
+@ApiStatus.Internal
+public final class HopperCapabilityCaches {
+    private final HopperBlockEntity hopper;
+    @Nullable
+    private BlockCapabilityCache<IItemHandler, @Nullable Direction> insertCache;
+    @Nullable
+    private BlockCapabilityCache<IItemHandler, @Nullable Direction> extractCache;
+
+    public HopperCapabilityCaches(HopperBlockEntity hopper) {
+        this.hopper = hopper;
+    }
+
+    /**
+     * {@return the cache for the item handler the hopper inserts into, or {@code null} if the hopper is not in a server level}
+     *
+     * @param facing the current facing of the hopper
+     */
+    @Nullable
+    public BlockCapabilityCache<IItemHandler, @Nullable Direction> getInsertCache(Direction facing) {
+        insertCache = getOrCreate(insertCache, hopper.getBlockPos().relative(facing), facing.getOpposite());
+        return insertCache;
+    }
+
+    /**
+     * {@return the cache for the item handler the hopper extracts from, or {@code null} if the hopper is not in a server level}
+     */
+    @Nullable
+    public BlockCapabilityCache<IItemHandler, @Nullable Direction> getExtractCache() {
+        extractCache = getOrCreate(extractCache, hopper.getBlockPos().above(), Direction.DOWN);
+        return extractCache;
+    }
+
+    @Nullable
+    private BlockCapabilityCache<IItemHandler, @Nullable Direction> getOrCreate(@Nullable BlockCapabilityCache<IItemHandler, @Nullable Direction> cache, BlockPos pos, Direction side) {
+        if (!(hopper.getLevel() instanceof ServerLevel serverLevel))
+            return null;
+
+        if (cache != null && cache.level() == serverLevel && cache.pos().equals(pos) && cache.context() == side)
+            return cache;
+
+        return BlockCapabilityCache.create(Capabilities.ItemHandler.BLOCK, serverLevel, pos, side, () -> !hopper.isRemoved(), () -> {});
+    }
+}
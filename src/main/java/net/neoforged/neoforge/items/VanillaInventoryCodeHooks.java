@@ -21,6 +21,7 @@ import net.minecraft.world.level.block.entity.Hopper;
 import net.minecraft.world.level.block.entity.HopperBlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
 import net.neoforged.neoforge.capabilities.Capabilities;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
@@ -68,7 +69,7 @@ public class VanillaInventoryCodeHooks {
      */
     public static boolean dropperInsertHook(Level level, BlockPos pos, DispenserBlockEntity dropper, int slot, ItemStack stack) {
         Direction facing = level.getBlockState(pos).getValue(DropperBlock.FACING);
-        return getAttachedItemHandler(level, pos, facing)
+        return getAttachedItemHandler(level, pos, facing, null)
                 .map(destinationResult -> {
                     IItemHandler itemHandler = destinationResult.getKey();
                     Object destination = destinationResult.getValue();
@@ -93,7 +94,7 @@ public class VanillaInventoryCodeHooks {
      */
     public static boolean insertHook(HopperBlockEntity hopper) {
         Direction hopperFacing = hopper.getBlockState().getValue(HopperBlock.FACING);
-        return getAttachedItemHandler(hopper.getLevel(), hopper.getBlockPos(), hopperFacing)
+        return getAttachedItemHandler(hopper.getLevel(), hopper.getBlockPos(), hopperFacing, hopper.getCapabilityCaches().getInsertCache(hopperFacing))
                 .map(destinationResult -> {
                     IItemHandler itemHandler = destinationResult.getKey();
                     Object destination = destinationResult.getValue();
@@ -187,23 +188,37 @@ public class VanillaInventoryCodeHooks {
         return true;
     }
 
-    private static Optional<Pair<IItemHandler, Object>> getAttachedItemHandler(Level level, BlockPos pos, Direction direction) {
-        return getItemHandlerAt(level, pos.getX() + direction.getStepX() + 0.5, pos.getY() + direction.getStepY() + 0.5, pos.getZ() + direction.getStepZ() + 0.5, direction.getOpposite());
+    private static Optional<Pair<IItemHandler, Object>> getAttachedItemHandler(Level level, BlockPos pos, Direction direction, @Nullable BlockCapabilityCache<IItemHandler, @Nullable Direction> cache) {
+        return getItemHandlerAt(level, pos.getX() + direction.getStepX() + 0.5, pos.getY() + direction.getStepY() + 0.5, pos.getZ() + direction.getStepZ() + 0.5, direction.getOpposite(), cache);
     }
 
     private static Optional<Pair<IItemHandler, Object>> getSourceItemHandler(Level level, Hopper hopper) {
-        return getItemHandlerAt(level, hopper.getLevelX(), hopper.getLevelY() + 1.0, hopper.getLevelZ(), Direction.DOWN);
+        var cache = hopper instanceof HopperBlockEntity hopperBlockEntity ? hopperBlockEntity.getCapabilityCaches().getExtractCache() : null;
+        return getItemHandlerAt(level, hopper.getLevelX(), hopper.getLevelY() + 1.0, hopper.getLevelZ(), Direction.DOWN, cache);
     }
 
-    private static Optional<Pair<IItemHandler, Object>> getItemHandlerAt(Level worldIn, double x, double y, double z, final Direction side) {
+    /**
+     * @param cache a capability cache targeting the block at the given coordinates with the given side, if one is available.
+     *              Using the cache avoids looking up the block capability providers on every transfer attempt.
+     */
+    private static Optional<Pair<IItemHandler, Object>> getItemHandlerAt(Level worldIn, double x, double y, double z, final Direction side, @Nullable BlockCapabilityCache<IItemHandler, @Nullable Direction> cache) {
         BlockPos blockpos = BlockPos.containing(x, y, z);
-        BlockState state = worldIn.getBlockState(blockpos);
-        BlockEntity blockEntity = state.hasBlockEntity() ? worldIn.getBlockEntity(blockpos) : null;
 
         // Look for block capability first
-        var blockCap = worldIn.getCapability(Capabilities.ItemHandler.BLOCK, blockpos, state, blockEntity, side);
-        if (blockCap != null)
-            return Optional.of(ImmutablePair.of(blockCap, blockEntity));
+        if (cache != null) {
+            var blockCap = cache.getCapability();
+            if (blockCap != null) {
+                // Capabilities of blocks without a block entity, such as composters, skip the block entity lookup
+                BlockEntity blockEntity = worldIn.getBlockState(blockpos).hasBlockEntity() ? worldIn.getBlockEntity(blockpos) : null;
+                return Optional.of(ImmutablePair.of(blockCap, blockEntity));
+            }
+        } else {
+            BlockState state = worldIn.getBlockState(blockpos);
+            BlockEntity blockEntity = state.hasBlockEntity() ? worldIn.getBlockEntity(blockpos) : null;
+            var blockCap = worldIn.getCapability(Capabilities.ItemHandler.BLOCK, blockpos, state, blockEntity, side);
+            if (blockCap != null)
+                return Optional.of(ImmutablePair.of(blockCap, blockEntity));
+        }
 
         // Otherwise fallback to automation entity capability
         // Note: the isAlive check matches what vanilla does for hoppers in EntitySelector.CONTAINER_ENTITY_SELECTOR
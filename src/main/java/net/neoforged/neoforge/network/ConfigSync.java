@@ -10,10 +10,11 @@ import java.nio.file.Files;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 import net.minecraft.client.Minecraft;
 import net.neoforged.fml.config.ConfigTracker;
 import net.neoforged.fml.config.ModConfig;
+import net.neoforged.neoforge.common.ModConfigSpec;
 import net.neoforged.neoforge.network.payload.ConfigFilePayload;
 import org.jetbrains.annotations.ApiStatus;
 
@@ -21,25 +22,46 @@ import org.jetbrains.annotations.ApiStatus;
 public class ConfigSync {
     public static final ConfigSync INSTANCE = new ConfigSync(ConfigTracker.INSTANCE);
     private final ConfigTracker tracker;
+    private final Map<ModConfigSpec, ConfigFilePayload> payloadCache = new ConcurrentHashMap<>();
 
     private ConfigSync(final ConfigTracker tracker) {
         this.tracker = tracker;
     }
 
     public List<ConfigFilePayload> syncConfigs() {
-        final Map<String, byte[]> configData = tracker.configSets().get(ModConfig.Type.SERVER).stream().collect(Collectors.toMap(ModConfig::getFileName, mc -> {
-            try {
-                return Files.readAllBytes(mc.getFullPath());
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }));
-
-        return configData.entrySet().stream()
-                .map(e -> new ConfigFilePayload(e.getValue(), e.getKey()))
+        return tracker.configSets().get(ModConfig.Type.SERVER).stream()
+                .map(this::getPayload)
                 .toList();
     }
 
+    /**
+     * Gets the payload for the given config.
+     * <p>
+     * Payloads of {@link ModConfigSpec} configs are cached until the spec {@linkplain #invalidate(ModConfigSpec) invalidates} them,
+     * which it does whenever the config is (re)loaded or saved. Other specs give no such notification, so their file is read on every sync.
+     */
+    private ConfigFilePayload getPayload(final ModConfig config) {
+        if (config.getSpec() instanceof ModConfigSpec spec) {
+            return payloadCache.computeIfAbsent(spec, s -> readPayload(config));
+        }
+        return readPayload(config);
+    }
+
+    private static ConfigFilePayload readPayload(final ModConfig config) {
+        try {
+            return new ConfigFilePayload(Files.readAllBytes(config.getFullPath()), config.getFileName());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Drops the cached payload of the config backed by the given spec, so that the next sync reads its file again.
+     */
+    public void invalidate(final ModConfigSpec spec) {
+        payloadCache.remove(spec);
+    }
+
     public void receiveSyncedConfig(final byte[] contents, final String fileName) {
         if (!Minecraft.getInstance().isLocalServer()) {
             Optional.ofNullable(tracker.fileMap().get(fileName)).ifPresent(mc -> mc.acceptSyncedConfig(contents));
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.network;
+
+import it.unimi.dsi.fastutil.ints.Int2IntAVLTreeMap;
+import it.unimi.dsi.fastutil.ints.Int2IntSortedMap;
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.neoforged.neoforge.network.payload.AdvancedContainerSetDataPayload;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects the data slot changes of the open container of a player, to send them in a single
+ * {@link AdvancedContainerSetDataPayload} at the end of the server tick.
+ * <p>
+ * All methods are expected to be called from the server thread.
+ */
+@ApiStatus.Internal
+public final class ContainerDataBatcher {
+    private static final List<ContainerDataBatcher> PENDING = new ArrayList<>();
+
+    private final ServerPlayer player;
+    private final Int2IntSortedMap changes = new Int2IntAVLTreeMap();
+    @Nullable
+    private AbstractContainerMenu menu;
+    private int syncInterval;
+    private int lastSentTick;
+    private boolean sentAny;
+    private boolean pending;
+
+    public ContainerDataBatcher(ServerPlayer player) {
+        this.player = player;
+    }
+
+    /**
+     * Queues the change of a data slot of the menu, replacing the pending change of the same slot.
+     */
+    public void queue(AbstractContainerMenu menu, int dataId, int value) {
+        if (menu != this.menu) {
+            // Compare the menus rather than their ids, as ids wrap around and may be reused by the next menu.
+            // The previous menu was closed, so its changes are of no use to the client anymore.
+            changes.clear();
+            this.menu = menu;
+            syncInterval = menu instanceof IDataSyncIntervalMenu limited ? limited.getDataSyncInterval() : 0;
+            sentAny = false;
+        }
+
+        changes.put(dataId, value);
+        if (!pending) {
+            pending = true;
+            PENDING.add(this);
+        }
+    }
+
+    /**
+     * Sends the pending changes of all players whose rate limit allows it, called at the end of each server tick.
+     */
+    public static void flushAll() {
+        if (!PENDING.isEmpty())
+            PENDING.removeIf(ContainerDataBatcher::flush);
+    }
+
+    /**
+     * Drops the pending changes of all players, called when the server stops.
+     */
+    public static void clearAll() {
+        for (ContainerDataBatcher batcher : PENDING) {
+            batcher.changes.clear();
+            batcher.menu = null;
+            batcher.pending = false;
+        }
+        PENDING.clear();
+    }
+
+    /**
+     * @return {@code true} if no changes are pending anymore
+     */
+    private boolean flush() {
+        if (player.hasDisconnected() || player.containerMenu != menu) {
+            // Drop the changes of menus that were closed while they were rate limited
+            changes.clear();
+            menu = null;
+        } else if (sentAny && syncInterval > 0 && player.server.getTickCount() - lastSentTick < syncInterval) {
+            return false;
+        } else {
+            send();
+        }
+        pending = false;
+        return true;
+    }
+
+    private void send() {
+        if (changes.isEmpty() || menu == null)
+            return;
+
+        if (!player.hasDisconnected())
+            player.connection.send(new AdvancedContainerSetDataPayload(menu.containerId, changes.keySet().toIntArray(), changes.values().toIntArray()));
+        changes.clear();
+        lastSentTick = player.server.getTickCount();
+        sentAny = true;
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.network;
+
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.DataSlot;
+
+/**
+ * Implemented by an {@link AbstractContainerMenu} to rate limit the updates of its {@link DataSlot data slots} sent to the client,
+ * for values that change every tick but do not need to be displayed as often, such as progress or energy.
+ * <p>
+ * The values that change between two updates are coalesced, and only their latest values are sent.
+ * The first update after the menu is opened is always sent immediately.
+ * The rate limit only applies to clients that have NeoForge installed.
+ */
+public interface IDataSyncIntervalMenu {
+    /**
+     * {@return the minimum number of ticks between two data slot updates of this menu sent to the client}
+     */
+    int getDataSyncInterval();
+}
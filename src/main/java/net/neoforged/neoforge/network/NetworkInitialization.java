@@ -19,6 +19,7 @@ import net.neoforged.neoforge.network.payload.ConfigFilePayload;
 import net.neoforged.neoforge.network.payload.FrozenRegistryPayload;
 import net.neoforged.neoforge.network.payload.FrozenRegistrySyncCompletedPayload;
 import net.neoforged.neoforge.network.payload.FrozenRegistrySyncStartPayload;
+import net.neoforged.neoforge.network.payload.IndexedPayload;
 import net.neoforged.neoforge.network.payload.KnownRegistryDataMapsPayload;
 import net.neoforged.neoforge.network.payload.KnownRegistryDataMapsReplyPayload;
 import net.neoforged.neoforge.network.payload.RegistryDataMapSyncPayload;
@@ -88,7 +89,13 @@ public class NetworkInitialization {
                         RegistryDataMapSyncPayload::decode,
                         handlers -> handlers.client(ClientRegistryManager::handleDataMapSync))
                 .play(AdvancedContainerSetDataPayload.ID,
-                        AdvancedContainerSetDataPayload::new,
-                        handlers -> handlers.client(ClientPayloadHandler.getInstance()::handle));
+                        AdvancedContainerSetDataPayload::decode,
+                        handlers -> handlers.client(ClientPayloadHandler.getInstance()::handle))
+                .play(
+                        IndexedPayload.ID,
+                        IndexedPayload::read,
+                        (payload, context) -> {
+                            // Only registered to negotiate payload indexing, indexed payloads are read as the payload of their channel
+                        });
     }
 }
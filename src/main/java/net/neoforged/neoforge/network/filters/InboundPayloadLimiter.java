@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.network.filters;
+
+import com.mojang.logging.LogUtils;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.local.LocalChannel;
+import io.netty.util.AttributeKey;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.network.Connection;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.common.custom.BrandPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.common.NeoForgeConfig;
+import net.neoforged.neoforge.network.payload.IndexedPayload;
+import net.neoforged.neoforge.network.registration.NetworkRegistry;
+import net.neoforged.neoforge.network.registration.PayloadIndex;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+/**
+ * Limits the rate of the modded payloads a server accepts from each client connection, with token buckets
+ * for the payloads and bytes per second of the whole connection and of each of its channels.
+ * <p>
+ * Payloads are never dropped. When a budget is exceeded, the server stops reading from the connection until the
+ * budget has recovered, which pushes the backpressure to the client. Depending on the configured {@link Policy},
+ * the client is also logged or disconnected.
+ * <p>
+ * A limiter is only used by the network thread of its connection, so it is not thread safe.
+ */
+@ApiStatus.Internal
+public final class InboundPayloadLimiter {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final AttributeKey<InboundPayloadLimiter> ATTRIBUTE = AttributeKey.valueOf("neoforge:payload_limiter");
+
+    private final TokenBucket payloads = new TokenBucket();
+    private final TokenBucket bytes = new TokenBucket();
+    private final Map<ResourceLocation, TokenBucket> channelPayloads = new HashMap<>();
+    private final Map<ResourceLocation, TokenBucket> channelBytes = new HashMap<>();
+    private boolean paused;
+
+    /**
+     * What to do with clients that exceed their payload budget, on top of no longer reading from their connection for a while.
+     */
+    public enum Policy {
+        /**
+         * Only stop reading from the connection.
+         */
+        THROTTLE,
+        /**
+         * Also log a warning.
+         */
+        LOG,
+        /**
+         * Disconnect the client.
+         */
+        DISCONNECT
+    }
+
+    /**
+     * The rates of the budgets, a rate of {@code 0} disables that budget.
+     * The buckets hold up to one second of their rate, which is the burst a client may send at once.
+     */
+    public record Limits(int payloadsPerSecond, int bytesPerSecond, int channelPayloadsPerSecond, int channelBytesPerSecond) {
+        public static Limits fromConfig() {
+            return new Limits(
+                    NeoForgeConfig.SERVER.payloadsPerSecond.getAsInt(),
+                    NeoForgeConfig.SERVER.payloadBytesPerSecond.getAsInt(),
+                    NeoForgeConfig.SERVER.channelPayloadsPerSecond.getAsInt(),
+                    NeoForgeConfig.SERVER.channelPayloadBytesPerSecond.getAsInt());
+        }
+    }
+
+    /**
+     * Invoked by the server when it is about to decode a modded payload.
+     *
+     * @param context the context of the decoder, if any
+     * @param id      the id the payload was sent with, or {@code null} if the server does not know it
+     * @param buffer  the buffer positioned at the start of the payload
+     */
+    public static void onPayloadReceived(@Nullable ChannelHandlerContext context, @Nullable ResourceLocation id, FriendlyByteBuf buffer) {
+        // Memory connections are the host of the game, and the brand is only sent once by vanilla clients.
+        // Other vanilla channels such as minecraft:register are charged like modded ones, as clients can send them at will.
+        if (context == null || context.channel() instanceof LocalChannel || BrandPayload.ID.equals(id))
+            return;
+
+        final Channel channel = context.channel();
+        InboundPayloadLimiter limiter = channel.attr(ATTRIBUTE).get();
+        if (limiter == null) {
+            limiter = new InboundPayloadLimiter();
+            channel.attr(ATTRIBUTE).set(limiter);
+        }
+
+        final ResourceLocation channelId = IndexedPayload.WIRE_ID.equals(id) ? peekIndexedChannel(channel, buffer) : id;
+        final long pauseNanos = limiter.record(channelId, buffer.readableBytes(), System.nanoTime(), Limits.fromConfig());
+        if (pauseNanos > 0)
+            limiter.pause(context, channelId, pauseNanos);
+    }
+
+    /**
+     * Records a received payload against the budgets.
+     *
+     * @param channel the channel of the payload, or {@code null} if it is unknown, in which case only the budgets of the connection apply
+     * @param size    the size of the payload in bytes
+     * @param now     the current time in nanoseconds
+     * @param limits  the rates of the budgets
+     * @return the time in nanoseconds until all budgets have recovered, or {@code 0} if none is exceeded
+     */
+    public long record(@Nullable ResourceLocation channel, int size, long now, Limits limits) {
+        long pause = payloads.consume(1, limits.payloadsPerSecond(), now);
+        pause = Math.max(pause, bytes.consume(size, limits.bytesPerSecond(), now));
+        if (channel != null) {
+            pause = Math.max(pause, channelPayloads.computeIfAbsent(channel, c -> new TokenBucket()).consume(1, limits.channelPayloadsPerSecond(), now));
+            pause = Math.max(pause, channelBytes.computeIfAbsent(channel, c -> new TokenBucket()).consume(size, limits.channelBytesPerSecond(), now));
+        }
+        return pause;
+    }
+
+    private void pause(ChannelHandlerContext context, @Nullable ResourceLocation channelId, long pauseNanos) {
+        if (paused)
+            return;
+
+        final Channel channel = context.channel();
+        final Policy policy = NeoForgeConfig.SERVER.payloadBudgetPolicy.get();
+        if (policy == Policy.DISCONNECT && context.pipeline().get("packet_handler") instanceof Connection connection) {
+            // Stay paused, so that the rest of the payloads already read do not disconnect the client again
+            paused = true;
+            channel.config().setAutoRead(false);
+            LOGGER.warn("Disconnecting {} for exceeding its payload budget on channel {}", channel.remoteAddress(), channelId);
+            connection.disconnect(Component.translatable("disconnect.exceeded_packet_rate"));
+            return;
+        }
+
+        if (policy == Policy.LOG)
+            LOGGER.warn("{} exceeded its payload budget on channel {}, pausing reads for {} ms", channel.remoteAddress(), channelId, TimeUnit.NANOSECONDS.toMillis(pauseNanos));
+
+        paused = true;
+        channel.config().setAutoRead(false);
+        channel.eventLoop().schedule(() -> {
+            paused = false;
+            channel.config().setAutoRead(true);
+        }, pauseNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Nullable
+    private static ResourceLocation peekIndexedChannel(Channel channel, FriendlyByteBuf buffer) {
+        final PayloadIndex index = NetworkRegistry.getInstance().getPayloadIndex(channel);
+        if (index == null)
+            return null;
+
+        final int readerIndex = buffer.readerIndex();
+        try {
+            return index.getId(buffer.readVarInt());
+        } catch (RuntimeException e) {
+            // Let the decoder report the malformed payload
+            return null;
+        } finally {
+            buffer.readerIndex(readerIndex);
+        }
+    }
+
+    /**
+     * A token bucket that holds up to one second of its rate, and may go into debt by a payload larger than what is left.
+     */
+    private static final class TokenBucket {
+        private double tokens = Double.NaN;
+        private long lastRefill;
+
+        /**
+         * @return the time in nanoseconds until the bucket is no longer in debt
+         */
+        long consume(int amount, int ratePerSecond, long now) {
+            if (ratePerSecond <= 0)
+                return 0;
+
+            if (Double.isNaN(tokens)) {
+                tokens = ratePerSecond;
+            } else {
+                tokens = Math.min(ratePerSecond, tokens + (now - lastRefill) * ratePerSecond / 1.0E9);
+            }
+            lastRefill = now;
+            tokens -= amount;
+            return tokens >= 0 ? 0 : (long) Math.ceil(-tokens * 1.0E9 / ratePerSecond);
+        }
+    }
+}
@@ -20,7 +20,9 @@ import org.jetbrains.annotations.ApiStatus;
 public class NetworkFilters {
     private static final Logger LOGGER = LogManager.getLogger();
 
+    // The filters are injected in order, each closer to the packet handler, so the indexer runs last on outbound packets
     private static final Map<String, BiFunction<Connection, ConnectionType, DynamicChannelHandler>> instances = ImmutableMap.of(
+            "neoforge:payload_indexer", (manager, connectionType) -> new PayloadIndexer(manager),
             "neoforge:vanilla_filter", (manager, connectionType) -> new VanillaConnectionNetworkFilter(connectionType),
             "neoforge:splitter", GenericPacketSplitter::new);
 
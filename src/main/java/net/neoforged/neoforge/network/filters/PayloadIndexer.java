@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.network.filters;
+
+import static net.minecraft.network.Connection.ATTRIBUTE_CLIENTBOUND_PROTOCOL;
+import static net.minecraft.network.Connection.ATTRIBUTE_SERVERBOUND_PROTOCOL;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageEncoder;
+import io.netty.util.AttributeKey;
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.network.Connection;
+import net.minecraft.network.ConnectionProtocol;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.PacketFlow;
+import net.minecraft.network.protocol.common.ClientboundCustomPayloadPacket;
+import net.minecraft.network.protocol.common.ServerboundCustomPayloadPacket;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundBundlePacket;
+import net.neoforged.neoforge.network.payload.IndexedPayload;
+import net.neoforged.neoforge.network.registration.NetworkRegistry;
+import net.neoforged.neoforge.network.registration.PayloadIndex;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Replaces the modded play payloads sent over the connection by {@link IndexedPayload}s,
+ * once both sides negotiated the indexes of their play channels.
+ * <p>
+ * The indexer runs before the bundles are unpacked, so the payloads inside {@link ClientboundBundlePacket bundles} are replaced as well.
+ */
+@ApiStatus.Internal
+public class PayloadIndexer extends MessageToMessageEncoder<Packet<?>> implements DynamicChannelHandler {
+    private final AttributeKey<ConnectionProtocol.CodecData<?>> codecKey;
+
+    public PayloadIndexer(Connection connection) {
+        this.codecKey = connection.getDirection().getOpposite() == PacketFlow.CLIENTBOUND ? ATTRIBUTE_CLIENTBOUND_PROTOCOL : ATTRIBUTE_SERVERBOUND_PROTOCOL;
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, Packet<?> packet, List<Object> out) {
+        final ConnectionProtocol.CodecData<?> codecData = ctx.channel().attr(codecKey).get();
+        final PayloadIndex index = NetworkRegistry.getInstance().getPayloadIndex(ctx.channel());
+        if (index == null || codecData == null || !codecData.protocol().isPlay()) {
+            out.add(packet);
+            return;
+        }
+
+        if (packet instanceof ClientboundBundlePacket bundlePacket) {
+            out.add(indexBundle(bundlePacket, index));
+        } else {
+            out.add(indexPayload(packet, index));
+        }
+    }
+
+    /**
+     * {@return the given bundle, or a copy of it if any of its payloads were replaced}
+     */
+    @SuppressWarnings("unchecked")
+    private static ClientboundBundlePacket indexBundle(ClientboundBundlePacket bundlePacket, PayloadIndex index) {
+        final List<Packet<? super ClientGamePacketListener>> subPackets = new ArrayList<>();
+        boolean replaced = false;
+        for (Packet<? super ClientGamePacketListener> subPacket : bundlePacket.subPackets()) {
+            final Packet<?> indexed = indexPayload(subPacket, index);
+            replaced |= indexed != subPacket;
+            subPackets.add((Packet<? super ClientGamePacketListener>) indexed);
+        }
+        return replaced ? new ClientboundBundlePacket(subPackets) : bundlePacket;
+    }
+
+    /**
+     * {@return the given packet, or an indexed copy of it if it is a custom payload packet with a negotiated channel}
+     */
+    private static Packet<?> indexPayload(Packet<?> packet, PayloadIndex index) {
+        if (packet instanceof ClientboundCustomPayloadPacket clientboundCustomPayloadPacket) {
+            final int channel = index.indexOf(clientboundCustomPayloadPacket.payload().id());
+            if (channel >= 0)
+                return new ClientboundCustomPayloadPacket(new IndexedPayload(channel, clientboundCustomPayloadPacket.payload()));
+        } else if (packet instanceof ServerboundCustomPayloadPacket serverboundCustomPayloadPacket) {
+            final int channel = index.indexOf(serverboundCustomPayloadPacket.payload().id());
+            if (channel >= 0)
+                return new ServerboundCustomPayloadPacket(new IndexedPayload(channel, serverboundCustomPayloadPacket.payload()));
+        }
+        return packet;
+    }
+
+    @Override
+    public boolean isNecessary(Connection manager) {
+        // Packets of memory connections are never encoded
+        return !manager.isMemoryConnection();
+    }
+}
@@ -157,6 +157,6 @@ public class ClientPayloadHandler {
     }
 
     public void handle(AdvancedContainerSetDataPayload msg, PlayPayloadContext context) {
-        context.packetHandler().handle(msg.toVanillaPacket());
+        msg.toVanillaPackets().forEach(context.packetHandler()::handle);
     }
 }
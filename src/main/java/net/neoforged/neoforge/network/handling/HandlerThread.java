@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.network.handling;
+
+import net.neoforged.neoforge.network.registration.IPayloadRegistrar;
+
+/**
+ * Defines the thread that the handler of a play payload is invoked on.
+ * <p>
+ * On every thread, a handler that throws an exception disconnects the connection the payload was received on.
+ * </p>
+ *
+ * @see IPayloadRegistrar#executesOn(HandlerThread)
+ */
+public enum HandlerThread {
+    /**
+     * The handler is invoked on the network thread of the connection, as soon as the payload is received.
+     * <p>
+     * This is the default. The handler is responsible for making sure that the data it accesses is thread safe,
+     * and should use the {@link ISynchronizedWorkHandler} of the context to run work on the main thread.
+     * </p>
+     */
+    NETWORK,
+    /**
+     * The handler is invoked on the main thread of the receiving side, at the start of its next tick.
+     * <p>
+     * The queued payloads are handled in the order they were received, until the time budget of the tick is used up.
+     * The remaining payloads are handled in the following ticks, so that a flood of payloads does not stall the game.
+     * Payloads of connections that were closed in the meantime are dropped.
+     * </p>
+     */
+    MAIN,
+    /**
+     * The handler is invoked on a thread of a small shared worker pool, for handlers that do expensive work,
+     * such as decoding large uploads, without needing access to the game state.
+     * <p>
+     * The handler is responsible for making sure that the data it accesses is thread safe, and should use the
+     * {@link ISynchronizedWorkHandler} of the context to apply its results on the main thread.
+     * Payloads of the same channel may be handled concurrently. When the pool is saturated the handler is invoked
+     * on the network thread instead, which stops reading from the connection until it completes.
+     * </p>
+     */
+    WORKER
+}
@@ -5,6 +5,8 @@
 
 package net.neoforged.neoforge.network.payload;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
@@ -16,6 +18,9 @@ import org.jetbrains.annotations.ApiStatus;
 
 /**
  * Payload that can be sent from the server to the client to add an entity to the world, with custom data.
+ * <p>
+ * The payload is bundled with the vanilla spawn packets of the entity. The custom data of an entity is written once per tick,
+ * and the payload is shared by all the players that start tracking the entity in that tick.
  *
  * @param entityId      The id of the entity to add.
  * @param customPayload The custom data of the entity to add.
@@ -29,6 +34,8 @@ public record AdvancedAddEntityPayload(
      * The id of this payload.
      */
     public static final ResourceLocation ID = new ResourceLocation(NeoForgeVersion.MOD_ID, "advanced_add_entity");
+    private static final Map<Entity, AdvancedAddEntityPayload> PAYLOADS_THIS_TICK = new IdentityHashMap<>();
+
     public AdvancedAddEntityPayload(FriendlyByteBuf buf) {
         this(
                 buf.readVarInt(),
@@ -41,6 +48,21 @@ public record AdvancedAddEntityPayload(
                 writeCustomData(e));
     }
 
+    /**
+     * {@return the payload of the entity, reusing the one created for another player in the same tick}
+     * Must only be called on the server thread.
+     */
+    public static AdvancedAddEntityPayload forEntity(Entity entity) {
+        return PAYLOADS_THIS_TICK.computeIfAbsent(entity, e -> new AdvancedAddEntityPayload(e));
+    }
+
+    /**
+     * Forgets the payloads created in the current tick, so that the custom data is written anew when the entity is paired again.
+     */
+    public static void clearTickCache() {
+        PAYLOADS_THIS_TICK.clear();
+    }
+
     private static byte[] writeCustomData(final Entity entity) {
         if (!(entity instanceof IEntityWithComplexSpawn additionalSpawnData)) {
             return new byte[0];
@@ -5,6 +5,9 @@
 
 package net.neoforged.neoforge.network.payload;
 
+import io.netty.handler.codec.DecoderException;
+import java.util.ArrayList;
+import java.util.List;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.network.protocol.game.ClientboundContainerSetDataPacket;
@@ -13,25 +16,53 @@ import net.neoforged.neoforge.internal.versions.neoforge.NeoForgeVersion;
 import org.jetbrains.annotations.ApiStatus;
 
 /**
- * A custom payload that updates the full dataslot value instead of just the short value
+ * A custom payload that updates the full values of the changed dataslots of a container instead of just their short values.
+ * <p>
+ * The dataslot IDs are sorted and encoded as the difference to the previous ID, so that consecutive dataslots
+ * only take one byte for their ID.
  *
  * @param containerId The containerId for the container.
- * @param dataId      The ID of the dataslot.
- * @param value       The value of the dataslot.
+ * @param dataIds     The IDs of the changed dataslots, in ascending order.
+ * @param values      The values of the changed dataslots, in the order of their IDs.
  */
 @ApiStatus.Internal
-public record AdvancedContainerSetDataPayload(int containerId, int dataId, int value) implements CustomPacketPayload {
+public record AdvancedContainerSetDataPayload(int containerId, int[] dataIds, int[] values) implements CustomPacketPayload {
 
     public static final ResourceLocation ID = new ResourceLocation(NeoForgeVersion.MOD_ID, "advanced_container_set_data");
-    public AdvancedContainerSetDataPayload(FriendlyByteBuf buffer) {
-        this(buffer.readByte(), buffer.readShort(), buffer.readVarInt());
+    public AdvancedContainerSetDataPayload {
+        if (dataIds.length != values.length) {
+            throw new IllegalArgumentException("Mismatched dataslot IDs and values: " + dataIds.length + " != " + values.length);
+        }
+    }
+
+    public static AdvancedContainerSetDataPayload decode(FriendlyByteBuf buffer) {
+        int containerId = buffer.readByte();
+        int size = buffer.readVarInt();
+        // Each entry takes at least two bytes
+        if (size > buffer.readableBytes() / 2) {
+            throw new DecoderException("Invalid dataslot count " + size + " for " + buffer.readableBytes() + " bytes");
+        }
+        int[] dataIds = new int[size];
+        int[] values = new int[size];
+        int previousId = -1;
+        for (int i = 0; i < size; i++) {
+            previousId += buffer.readVarInt() + 1;
+            dataIds[i] = previousId;
+            values[i] = buffer.readVarInt();
+        }
+        return new AdvancedContainerSetDataPayload(containerId, dataIds, values);
     }
 
     @Override
     public void write(FriendlyByteBuf buffer) {
         buffer.writeByte(containerId);
-        buffer.writeShort(dataId);
-        buffer.writeVarInt(value);
+        buffer.writeVarInt(dataIds.length);
+        int previousId = -1;
+        for (int i = 0; i < dataIds.length; i++) {
+            buffer.writeVarInt(dataIds[i] - previousId - 1);
+            buffer.writeVarInt(values[i]);
+            previousId = dataIds[i];
+        }
     }
 
     @Override
@@ -39,7 +70,11 @@ public record AdvancedContainerSetDataPayload(int containerId, int dataId, int v
         return ID;
     }
 
-    public ClientboundContainerSetDataPacket toVanillaPacket() {
-        return new ClientboundContainerSetDataPacket(containerId, dataId, value);
+    public List<ClientboundContainerSetDataPacket> toVanillaPackets() {
+        List<ClientboundContainerSetDataPacket> packets = new ArrayList<>(dataIds.length);
+        for (int i = 0; i < dataIds.length; i++) {
+            packets.add(new ClientboundContainerSetDataPacket(containerId, dataIds[i], values[i]));
+        }
+        return packets;
     }
 }
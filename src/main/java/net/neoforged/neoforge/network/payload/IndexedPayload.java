@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.network.payload;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.internal.versions.neoforge.NeoForgeVersion;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * A payload that wraps a modded play payload to send it with the numeric index of its channel instead of its id.
+ * <p>
+ * The indexes are the positions of the channels in the sorted negotiated play channels, which are the same on both sides.
+ * The wrapped payload is written by the outbound payload indexer, and is read directly as the wrapped payload.
+ * </p>
+ * <p>
+ * The payload is registered with {@link #ID}, to only be used when both sides support it,
+ * but is written with the shorter {@link #WIRE_ID}, as the id is written in front of every indexed payload.
+ * </p>
+ *
+ * @param index   The index of the channel of the payload.
+ * @param payload The wrapped payload.
+ */
+@ApiStatus.Internal
+public record IndexedPayload(int index, CustomPacketPayload payload) implements CustomPacketPayload {
+    public static final ResourceLocation ID = new ResourceLocation(NeoForgeVersion.MOD_ID, "indexed");
+    public static final ResourceLocation WIRE_ID = new ResourceLocation("n", "i");
+
+    public static IndexedPayload read(FriendlyByteBuf buf) {
+        throw new IllegalStateException("Indexed payloads are read through the payload index of the connection");
+    }
+
+    @Override
+    public void write(FriendlyByteBuf buf) {
+        buf.writeVarInt(index);
+        payload.write(buf);
+    }
+
+    @Override
+    public ResourceLocation id() {
+        return WIRE_ID;
+    }
+}
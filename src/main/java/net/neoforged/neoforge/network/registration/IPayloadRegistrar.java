@@ -12,6 +12,7 @@ import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.network.ConfigurationTask;
 import net.neoforged.neoforge.network.handling.ConfigurationPayloadContext;
+import net.neoforged.neoforge.network.handling.HandlerThread;
 import net.neoforged.neoforge.network.handling.IConfigurationPayloadHandler;
 import net.neoforged.neoforge.network.handling.IPayloadHandler;
 import net.neoforged.neoforge.network.handling.IPlayPayloadHandler;
@@ -62,8 +63,9 @@ import net.neoforged.neoforge.network.handling.PlayPayloadContext;
  * login process. Invoking the {@link ITaskCompletedHandler#onTaskCompleted(ConfigurationTask.Type)} method on the client, will throw an exception.
  * </p>
  * <p>
- * Note: the processing of payloads happens solely on the network thread. You are responsible for ensuring that any data you access
+ * Note: by default the processing of payloads happens solely on the network thread. You are responsible for ensuring that any data you access
  * in your handlers is either thread safe, or that you queue up your work to be done on the main thread, of the relevant side.
+ * Play payloads can instead be handled on the main thread or on a worker thread, see {@link #executesOn(HandlerThread)}.
  * This is particularly important for the {@link IPlayPayloadHandler} or {@link IConfigurationPayloadHandler} implementations that you pass to
  * {@link #play(ResourceLocation, FriendlyByteBuf.Reader, IPlayPayloadHandler)} or {@link #configuration(ResourceLocation, FriendlyByteBuf.Reader, IConfigurationPayloadHandler)}
  * respectively, since those are also invoked on the network thread.
@@ -191,4 +193,17 @@ public interface IPayloadRegistrar {
      * @implNote The registrar implementation is immutable, so this method will return a new registrar.
      */
     IPayloadRegistrar optional();
+
+    /**
+     * Defines the thread that the handlers of the play payloads registered by this registrar are invoked on.
+     * <p>
+     * Handling a payload on the {@link HandlerThread#MAIN main thread} is cheaper than submitting work to the {@link ISynchronizedWorkHandler}
+     * from the network thread, and the time spent on it is limited per tick. Handlers of configuration payloads are always invoked on the network thread.
+     * </p>
+     *
+     * @param thread The thread to invoke the handlers on, {@link HandlerThread#NETWORK} by default.
+     * @return A new registrar, ready to configure payloads that are handled on that thread.
+     * @implNote The registrar implementation is immutable, so this method will return a new registrar.
+     */
+    IPayloadRegistrar executesOn(HandlerThread thread);
 }
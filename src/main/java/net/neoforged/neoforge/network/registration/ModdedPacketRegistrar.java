@@ -13,6 +13,7 @@ import java.util.function.Consumer;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.network.handling.HandlerThread;
 import net.neoforged.neoforge.network.handling.IConfigurationPayloadHandler;
 import net.neoforged.neoforge.network.handling.IPayloadHandler;
 import net.neoforged.neoforge.network.handling.IPlayPayloadHandler;
@@ -27,6 +28,7 @@ class ModdedPacketRegistrar implements IPayloadRegistrar {
     private final Map<ResourceLocation, PlayRegistration<?>> playPayloads;
     private Optional<String> version = Optional.empty();
     private boolean optional = false;
+    private HandlerThread thread = HandlerThread.NETWORK;
     private boolean valid = true;
 
     public ModdedPacketRegistrar(String modId) {
@@ -41,6 +43,7 @@ class ModdedPacketRegistrar implements IPayloadRegistrar {
         this.configurationPayloads = source.configurationPayloads;
         this.version = source.version;
         this.optional = source.optional;
+        this.thread = source.thread;
         this.valid = source.valid;
     }
 
@@ -56,7 +59,7 @@ class ModdedPacketRegistrar implements IPayloadRegistrar {
     public <T extends CustomPacketPayload> IPayloadRegistrar play(ResourceLocation id, FriendlyByteBuf.Reader<T> reader, IPlayPayloadHandler<T> handler) {
         play(
                 id, new PlayRegistration<>(
-                        reader, handler, version, Optional.empty(), optional));
+                        reader, handler, version, Optional.empty(), optional, thread));
         return this;
     }
 
@@ -75,7 +78,7 @@ class ModdedPacketRegistrar implements IPayloadRegistrar {
         final PlayPayloadHandler<T> innerHandler = builder.create();
         play(
                 id, new PlayRegistration<>(
-                        reader, innerHandler, version, innerHandler.flow(), optional));
+                        reader, innerHandler, version, innerHandler.flow(), optional, thread));
         return this;
     }
 
@@ -139,6 +142,13 @@ class ModdedPacketRegistrar implements IPayloadRegistrar {
         return clone;
     }
 
+    @Override
+    public IPayloadRegistrar executesOn(HandlerThread thread) {
+        final ModdedPacketRegistrar clone = new ModdedPacketRegistrar(this);
+        clone.thread = thread;
+        return clone;
+    }
+
     public void invalidate() {
         valid = false;
     }
@@ -9,7 +9,9 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.mojang.logging.LogUtils;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.DecoderException;
 import io.netty.util.AttributeKey;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -59,6 +61,7 @@ import net.neoforged.neoforge.network.handling.PlayPayloadContext;
 import net.neoforged.neoforge.network.negotiation.NegotiableNetworkComponent;
 import net.neoforged.neoforge.network.negotiation.NegotiationResult;
 import net.neoforged.neoforge.network.negotiation.NetworkComponentNegotiator;
+import net.neoforged.neoforge.network.payload.IndexedPayload;
 import net.neoforged.neoforge.network.payload.MinecraftRegisterPayload;
 import net.neoforged.neoforge.network.payload.MinecraftUnregisterPayload;
 import net.neoforged.neoforge.network.payload.ModdedNetworkComponent;
@@ -90,6 +93,7 @@ public class NetworkRegistry {
     private static final AttributeKey<Set<ResourceLocation>> ATTRIBUTE_ADHOC_CHANNELS = AttributeKey.valueOf("neoforge:adhoc_channels");
     private static final AttributeKey<ConnectionType> ATTRIBUTE_CONNECTION_TYPE = AttributeKey.valueOf("neoforge:connection_type");
     private static final AttributeKey<PacketFlow> ATTRIBUTE_FLOW = AttributeKey.valueOf("neoforge:flow");
+    private static final AttributeKey<PayloadIndex> ATTRIBUTE_PAYLOAD_INDEX = AttributeKey.valueOf("neoforge:payload_index");
 
     private static final NetworkRegistry INSTANCE = new NetworkRegistry();
 
@@ -144,6 +148,7 @@ public class NetworkRegistry {
      * <li>{@link ModdedNetworkQueryPayload}, it has a hardcoded id check, since it can be used before a network setup exists.</li>
      * <li>{@link ModdedNetworkPayload}, it also has a hardcoded id check, since it can be used before a network setup exists, as well.</li>
      * <li>{@link ModdedNetworkSetupFailedPayload}, it also has a hardcoded id check, since it can be used before a network setup exists, as well.</li>
+     * <li>{@link IndexedPayload}, it has a hardcoded id check, and is read as the payload of the indexed channel.</li>
      * </ul>
      * </p>
      * <p>
@@ -191,6 +196,10 @@ public class NetworkRegistry {
             return ModdedNetworkSetupFailedPayload.READER;
         }
 
+        if (id.equals(IndexedPayload.WIRE_ID)) {
+            return getIndexedReader(context, protocol, knownTypes);
+        }
+
         //Check the network setup.
         final NetworkPayloadSetup payloadSetup = context.channel().attr(ATTRIBUTE_PAYLOAD_SETUP).get();
         final PacketFlow flow = context.channel().attr(ATTRIBUTE_FLOW).get();
@@ -272,6 +281,63 @@ public class NetworkRegistry {
         }
     }
 
+    /**
+     * Creates a reader for an {@link IndexedPayload}, which reads the index of the channel and then the payload of that channel.
+     *
+     * @param context    The context of the channel.
+     * @param protocol   The protocol of the connection.
+     * @param knownTypes The known types of the connection.
+     * @return A reader for the payload, or null if the payload should be discarded.
+     */
+    @Nullable
+    private FriendlyByteBuf.Reader<? extends CustomPacketPayload> getIndexedReader(ChannelHandlerContext context, ConnectionProtocol protocol, Map<ResourceLocation, FriendlyByteBuf.Reader<? extends CustomPacketPayload>> knownTypes) {
+        final PayloadIndex index = context.channel().attr(ATTRIBUTE_PAYLOAD_INDEX).get();
+        final PacketFlow flow = context.channel().attr(ATTRIBUTE_FLOW).get();
+        if (index == null || flow == null || !protocol.isPlay()) {
+            LOGGER.warn("Received an indexed modded custom payload packet that has not been negotiated. Not parsing packet.");
+            return null;
+        }
+
+        return buffer -> {
+            final int channel = buffer.readVarInt();
+            final PlayRegistration<?> registration = index.getRegistration(channel);
+            if (registration == null) {
+                throw new DecoderException("Received an indexed modded custom payload packet with an unknown channel index " + channel);
+            }
+
+            if (registration.flow().isPresent() && registration.flow().get() != flow) {
+                //Let the id based lookup deal with the invalid flow.
+                final FriendlyByteBuf.Reader<? extends CustomPacketPayload> reader = getReader(index.getId(channel), context, protocol, knownTypes);
+                if (reader == null) {
+                    throw new DecoderException("Received an indexed modded custom payload packet with an invalid flow for channel " + index.getId(channel));
+                }
+                return reader.apply(buffer);
+            }
+
+            return registration.apply(buffer);
+        };
+    }
+
+    /**
+     * {@return the index of the negotiated play channels of the connection, or null if the connection does not index its payloads}
+     *
+     * @param channel The channel of the connection.
+     */
+    @Nullable
+    public PayloadIndex getPayloadIndex(Channel channel) {
+        return channel.attr(ATTRIBUTE_PAYLOAD_INDEX).get();
+    }
+
+    /**
+     * Indexes the negotiated play channels of the connection, if both sides support indexed payloads.
+     *
+     * @param connection The connection.
+     * @param setup      The negotiated network of the connection.
+     */
+    private void setupPayloadIndex(Connection connection, NetworkPayloadSetup setup) {
+        connection.channel().attr(ATTRIBUTE_PAYLOAD_INDEX).set(setup.play().containsKey(IndexedPayload.ID) ? PayloadIndex.of(setup, knownPlayRegistrations) : null);
+    }
+
     /**
      * Invoked by a {@link ServerCommonPacketListener} when a modded packet is received on a modded connection that is not natively known to the vanilla code base.
      * <p>
@@ -341,7 +407,9 @@ public class NetworkRegistry {
                 throw new IllegalStateException("A client sent a packet with an unknown or not accepted channel, while negotiation succeeded. Somebody changed the channels known to NeoForge!");
             }
 
-            registration.handle(
+            PayloadDispatcher.dispatch(
+                    registration,
+                    id,
                     packet.payload(),
                     new PlayPayloadContext(
                             new ServerReplyHandler(playPacketListener),
@@ -349,7 +417,8 @@ public class NetworkRegistry {
                             new EventLoopSynchronizedWorkHandler<>(playPacketListener.getMainThreadEventLoop(), packet.payload()),
                             PacketFlow.SERVERBOUND,
                             listener.getConnection().channel().pipeline().lastContext(),
-                            listener instanceof ServerPlayerConnection connection ? Optional.of(connection.getPlayer()) : Optional.empty()));
+                            listener instanceof ServerPlayerConnection connection ? Optional.of(connection.getPlayer()) : Optional.empty()),
+                    listener.getConnection());
         } else {
             LOGGER.error("Received a modded custom payload packet from a client that is not in the configuration or play phase. Disconnecting client.");
             throw new IllegalStateException("A client sent a packet while not in the configuration or play phase. Somebody changed the phases known to NeoForge!");
@@ -429,7 +498,9 @@ public class NetworkRegistry {
                 throw new IllegalStateException("A server sent a packet with an unknown or not accepted channel, while negotiation succeeded. Somebody changed the channels known to NeoForge!");
             }
 
-            registration.handle(
+            PayloadDispatcher.dispatch(
+                    registration,
+                    id,
                     packet.payload(),
                     new PlayPayloadContext(
                             new ClientReplyHandler(playPacketListener),
@@ -437,7 +508,8 @@ public class NetworkRegistry {
                             new EventLoopSynchronizedWorkHandler<>(playPacketListener.getMainThreadEventLoop(), packet.payload()),
                             PacketFlow.CLIENTBOUND,
                             listener.getConnection().channel().pipeline().lastContext(),
-                            Optional.ofNullable(playPacketListener.getMinecraft().player)));
+                            Optional.ofNullable(playPacketListener.getMinecraft().player)),
+                    listener.getConnection());
         } else {
             LOGGER.error("Received a modded custom payload packet from a server that is not in the configuration or play phase. Disconnecting server.");
             throw new IllegalStateException("A server sent a packet while not in the configuration or play phase. Somebody changed the phases known to NeoForge!");
@@ -510,6 +582,7 @@ public class NetworkRegistry {
                         .collect(Collectors.toSet()));
 
         sender.getConnection().channel().attr(ATTRIBUTE_PAYLOAD_SETUP).set(setup);
+        setupPayloadIndex(sender.getConnection(), setup);
 
         NetworkFilters.injectIfNecessary(sender.getConnection(), sender.getConnectionType());
 
@@ -768,6 +841,7 @@ public class NetworkRegistry {
         NetworkFilters.injectIfNecessary(listener.getConnection(), listener.getConnectionType());
 
         listener.getConnection().channel().attr(ATTRIBUTE_PAYLOAD_SETUP).set(setup);
+        setupPayloadIndex(listener.getConnection(), setup);
         listener.getConnection().channel().attr(ATTRIBUTE_CONNECTION_TYPE).set(listener.getConnectionType());
         listener.getConnection().channel().attr(ATTRIBUTE_FLOW).set(PacketFlow.CLIENTBOUND);
 
@@ -947,6 +1021,7 @@ public class NetworkRegistry {
                         .collect(Collectors.toSet()));
 
         connection.channel().attr(ATTRIBUTE_PAYLOAD_SETUP).set(setup);
+        setupPayloadIndex(connection, setup);
 
         NetworkFilters.injectIfNecessary(connection, ConnectionType.NEOFORGE);
     }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.network.registration;
+
+import com.google.common.base.Suppliers;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.mojang.logging.LogUtils;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import net.minecraft.network.Connection;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.PacketFlow;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.common.NeoForgeConfig;
+import net.neoforged.neoforge.common.metrics.Metrics;
+import net.neoforged.neoforge.common.metrics.NeoForgeMetrics;
+import net.neoforged.neoforge.network.handling.HandlerThread;
+import net.neoforged.neoforge.network.handling.PlayPayloadContext;
+import org.jetbrains.annotations.ApiStatus;
+import org.slf4j.Logger;
+
+/**
+ * Invokes the handlers of received play payloads on the {@link HandlerThread thread} they were registered for.
+ * <p>
+ * Payloads handled on the main thread are queued per side, and drained at the start of each tick of that side
+ * until the payload time budget of the tick is used up.
+ */
+@ApiStatus.Internal
+public final class PayloadDispatcher {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final int WORKER_QUEUE_CAPACITY = 256;
+    private static final Queue<QueuedPayload> SERVER_QUEUE = new ConcurrentLinkedQueue<>();
+    private static final Queue<QueuedPayload> CLIENT_QUEUE = new ConcurrentLinkedQueue<>();
+    private static final Supplier<ThreadPoolExecutor> WORKERS = Suppliers.memoize(PayloadDispatcher::createWorkers);
+
+    private PayloadDispatcher() {}
+
+    /**
+     * Invokes the handler of the payload, or queues it for the thread of its registration.
+     *
+     * @param registration the registration of the channel of the payload
+     * @param id           the id of the channel of the payload
+     * @param payload      the payload
+     * @param context      the context to pass to the handler
+     * @param connection   the connection the payload was received on
+     */
+    static void dispatch(PlayRegistration<?> registration, ResourceLocation id, CustomPacketPayload payload, PlayPayloadContext context, Connection connection) {
+        switch (registration.thread()) {
+            case NETWORK -> handle(registration, id, payload, context);
+            case MAIN -> {
+                NeoForgeMetrics.onPayloadQueued(id);
+                (context.flow() == PacketFlow.SERVERBOUND ? SERVER_QUEUE : CLIENT_QUEUE).add(new QueuedPayload(registration, id, payload, context, connection));
+            }
+            case WORKER -> {
+                NeoForgeMetrics.onPayloadQueued(id);
+                WORKERS.get().execute(new QueuedPayload(registration, id, payload, context, connection));
+            }
+        }
+    }
+
+    /**
+     * Handles the payloads queued for the main thread of the server, within the configured time budget.
+     */
+    public static void handleServerPayloads() {
+        drain(SERVER_QUEUE, NeoForgeConfig.SERVER.mainThreadPayloadBudget.getAsInt());
+    }
+
+    /**
+     * Handles the payloads queued for the main thread of the client.
+     * The server configuration does not apply to the client, so it always uses the default time budget.
+     */
+    public static void handleClientPayloads() {
+        drain(CLIENT_QUEUE, NeoForgeConfig.SERVER.mainThreadPayloadBudget.getDefault());
+    }
+
+    /**
+     * Drops the payloads that are still queued for the main thread of the server, once it stopped.
+     */
+    public static void clearServerPayloads() {
+        QueuedPayload queued;
+        while ((queued = SERVER_QUEUE.poll()) != null)
+            NeoForgeMetrics.onPayloadDequeued(queued.id());
+    }
+
+    private static void drain(Queue<QueuedPayload> queue, int budgetMillis) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        // Always handle at least one payload, so that a single slow handler cannot starve the queue
+        do {
+            final QueuedPayload queued = queue.poll();
+            if (queued == null)
+                return;
+            queued.run();
+        } while (System.nanoTime() < deadline);
+    }
+
+    private static void handle(PlayRegistration<?> registration, ResourceLocation id, CustomPacketPayload payload, PlayPayloadContext context) {
+        if (!Metrics.ENABLED) {
+            registration.handle(payload, context);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        try {
+            registration.handle(payload, context);
+        } finally {
+            NeoForgeMetrics.onPayloadHandled(id, System.nanoTime() - start);
+        }
+    }
+
+    private static ThreadPoolExecutor createWorkers() {
+        final int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        // When the queue is full the payload is handled on the network thread, which stops reading from that connection meanwhile
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(WORKER_QUEUE_CAPACITY),
+                new ThreadFactoryBuilder().setNameFormat("Payload Worker #%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * A payload waiting for its handler on the main thread or a worker thread.
+     */
+    private record QueuedPayload(PlayRegistration<?> registration, ResourceLocation id, CustomPacketPayload payload, PlayPayloadContext context, Connection connection) implements Runnable {
+        @Override
+        public void run() {
+            NeoForgeMetrics.onPayloadDequeued(id);
+            if (!connection.isConnected())
+                return;
+
+            try {
+                handle(registration, id, payload, context);
+            } catch (Exception e) {
+                // Disconnect like an exception thrown by a handler on the network thread does
+                LOGGER.error("Failed to handle the payload {} of channel {}", payload, id, e);
+                connection.disconnect(Component.translatable("disconnect.genericReason", "Internal Exception: " + e));
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.network.registration;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.Map;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The numeric indexes of the negotiated play channels of a connection.
+ * <p>
+ * The channels are indexed in the order of their ids, so that both sides of a connection,
+ * which negotiated the same channels, agree on the indexes without exchanging them.
+ * </p>
+ */
+@ApiStatus.Internal
+public final class PayloadIndex {
+    private final ResourceLocation[] ids;
+    private final PlayRegistration<?>[] registrations;
+    private final Object2IntMap<ResourceLocation> indexes;
+
+    private PayloadIndex(ResourceLocation[] ids, PlayRegistration<?>[] registrations) {
+        this.ids = ids;
+        this.registrations = registrations;
+        this.indexes = new Object2IntOpenHashMap<>(ids.length);
+        this.indexes.defaultReturnValue(-1);
+        for (int i = 0; i < ids.length; i++) {
+            indexes.put(ids[i], i);
+        }
+    }
+
+    /**
+     * Creates the index of the negotiated play channels of a connection.
+     *
+     * @param setup         The negotiated channels.
+     * @param registrations The known play registrations.
+     * @return The index.
+     */
+    static PayloadIndex of(NetworkPayloadSetup setup, Map<ResourceLocation, PlayRegistration<?>> registrations) {
+        final ResourceLocation[] ids = setup.play().keySet().stream().sorted().toArray(ResourceLocation[]::new);
+        final PlayRegistration<?>[] indexedRegistrations = new PlayRegistration<?>[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            indexedRegistrations[i] = registrations.get(ids[i]);
+        }
+        return new PayloadIndex(ids, indexedRegistrations);
+    }
+
+    /**
+     * {@return the index of the channel, or -1 if the channel is not indexed}
+     */
+    public int indexOf(ResourceLocation id) {
+        return indexes.getInt(id);
+    }
+
+    /**
+     * {@return the id of the channel with the given index, or null if the index is invalid}
+     */
+    @Nullable
+    public ResourceLocation getId(int index) {
+        return index >= 0 && index < ids.length ? ids[index] : null;
+    }
+
+    /**
+     * {@return the registration of the channel with the given index, or null if the index is invalid or the channel is unknown}
+     */
+    @Nullable
+    PlayRegistration<?> getRegistration(int index) {
+        return index >= 0 && index < registrations.length ? registrations[index] : null;
+    }
+}
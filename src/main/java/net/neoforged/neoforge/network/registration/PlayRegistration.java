@@ -9,6 +9,7 @@ import java.util.Optional;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.protocol.PacketFlow;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.neoforged.neoforge.network.handling.HandlerThread;
 import net.neoforged.neoforge.network.handling.IPlayPayloadHandler;
 import net.neoforged.neoforge.network.handling.PlayPayloadContext;
 import org.jetbrains.annotations.ApiStatus;
@@ -21,6 +22,7 @@ import org.jetbrains.annotations.ApiStatus;
  * @param version  The version of the payload
  * @param flow     The flow of the payload
  * @param optional Whether the payload is optional
+ * @param thread   The thread the handler is invoked on
  * @param <T>      The type of the payload
  */
 @ApiStatus.Internal
@@ -29,7 +31,8 @@ public record PlayRegistration<T extends CustomPacketPayload>(
         IPlayPayloadHandler<T> handler,
         Optional<String> version,
         Optional<PacketFlow> flow,
-        boolean optional) implements IPlayPayloadHandler<CustomPacketPayload>, FriendlyByteBuf.Reader<CustomPacketPayload> {
+        boolean optional,
+        HandlerThread thread) implements IPlayPayloadHandler<CustomPacketPayload>, FriendlyByteBuf.Reader<CustomPacketPayload> {
     @SuppressWarnings({ "rawtypes", "unchecked" })
     @Override
     public void handle(CustomPacketPayload payload, PlayPayloadContext context) {
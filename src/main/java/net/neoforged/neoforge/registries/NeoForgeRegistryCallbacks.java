@@ -23,6 +23,7 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.DebugLevelSource;
+import net.neoforged.neoforge.common.world.BlockStatePropertyCache;
 import net.neoforged.neoforge.registries.callback.AddCallback;
 import net.neoforged.neoforge.registries.callback.BakeCallback;
 import net.neoforged.neoforge.registries.callback.ClearCallback;
@@ -58,10 +59,12 @@ class NeoForgeRegistryCallbacks {
             addedBlocks.clear();
 
             // Update block state ID map after each bake in case of registry changes.
+            // The position-independent extension properties are precomputed here, once all blocks exist.
             for (Block block : registry) {
                 for (BlockState state : block.getStateDefinition().getPossibleStates()) {
                     BLOCKSTATE_TO_ID_MAP.add(state);
                 }
+                BlockStatePropertyCache.computeAll(block);
             }
 
             DebugLevelSource.initValidStates();
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.resource;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.mojang.logging.LogUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import net.minecraft.Util;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.CompositePackResources;
+import net.minecraft.server.packs.PackResources;
+import net.minecraft.server.packs.PackType;
+import net.minecraft.server.packs.PathPackResources;
+import net.minecraft.server.packs.repository.Pack;
+import net.minecraft.server.packs.resources.IoSupplier;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+/**
+ * A {@link PathPackResources} for an immutable root, such as a mod jar, that answers listing and
+ * existence queries from an in-memory index of its entries instead of walking the file system.
+ * <p>
+ * The index of each {@link PackType} is built on first use and kept by the {@link IndexedResourcesSupplier},
+ * so it is shared by all the pack instances opened across resource reloads.
+ * Files are still read from the root's file system, which is kept open by its owner.
+ */
+public class IndexedPathPackResources extends PathPackResources {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private final Path root;
+    private final Index index;
+
+    public IndexedPathPackResources(String packId, Path root, boolean isBuiltin, Index index) {
+        super(packId, root, isBuiltin);
+        this.root = root;
+        this.index = index;
+    }
+
+    @Nullable
+    @Override
+    public IoSupplier<InputStream> getResource(PackType type, ResourceLocation location) {
+        if (!index.get(type).contains(location.getNamespace(), location.getPath()))
+            return null;
+        return IoSupplier.create(root.resolve(type.getDirectory()).resolve(location.getNamespace()).resolve(location.getPath()));
+    }
+
+    @Override
+    public void listResources(PackType type, String namespace, String path, ResourceOutput resourceOutput) {
+        Path namespaceDir = root.resolve(type.getDirectory()).resolve(namespace);
+        for (String entry : index.get(type).list(namespace, path)) {
+            ResourceLocation location = ResourceLocation.tryBuild(namespace, entry);
+            if (location == null)
+                Util.logAndPauseIfInIde(String.format(Locale.ROOT, "Invalid path in pack: %s:%s, ignoring", namespace, entry));
+            else
+                resourceOutput.accept(location, IoSupplier.create(namespaceDir.resolve(entry)));
+        }
+    }
+
+    @Override
+    public Set<String> getNamespaces(PackType type) {
+        return index.get(type).namespaces();
+    }
+
+    /**
+     * The lazily built indexes of a pack root, one per {@link PackType}.
+     */
+    public static final class Index {
+        private final Path root;
+        private final Map<PackType, TypeIndex> types = new ConcurrentHashMap<>();
+
+        public Index(Path root) {
+            this.root = root;
+        }
+
+        private TypeIndex get(PackType type) {
+            return types.computeIfAbsent(type, t -> TypeIndex.build(root.resolve(t.getDirectory())));
+        }
+    }
+
+    /**
+     * The entries of one pack type directory, as paths relative to their namespace directory, sorted.
+     */
+    private record TypeIndex(Map<String, ImmutableSortedSet<String>> entries) {
+        private static final TypeIndex EMPTY = new TypeIndex(ImmutableMap.of());
+
+        static TypeIndex build(Path typeDir) {
+            Map<String, List<String>> entries = new HashMap<>();
+            try (Stream<Path> stream = Files.walk(typeDir)) {
+                stream.forEach(path -> {
+                    Path relative = typeDir.relativize(path);
+                    if (relative.toString().isEmpty())
+                        return;
+
+                    int nameCount = relative.getNameCount();
+                    String namespace = relative.getName(0).toString();
+                    if (nameCount == 1) {
+                        if (Files.isDirectory(path)) {
+                            if (ResourceLocation.isValidNamespace(namespace))
+                                entries.computeIfAbsent(namespace, k -> new ArrayList<>());
+                            else
+                                LOGGER.warn("Non [a-z0-9_.-] character in namespace {} in pack {}, ignoring", namespace, typeDir);
+                        }
+                    } else if (ResourceLocation.isValidNamespace(namespace) && Files.isRegularFile(path)) {
+                        StringBuilder entry = new StringBuilder(relative.getName(1).toString());
+                        for (int i = 2; i < nameCount; i++)
+                            entry.append('/').append(relative.getName(i));
+                        entries.computeIfAbsent(namespace, k -> new ArrayList<>()).add(entry.toString());
+                    }
+                });
+            } catch (NoSuchFileException | NotDirectoryException e) {
+                return EMPTY;
+            } catch (IOException e) {
+                LOGGER.error("Failed to index pack directory {}", typeDir, e);
+                return EMPTY;
+            }
+
+            ImmutableMap.Builder<String, ImmutableSortedSet<String>> builder = ImmutableMap.builderWithExpectedSize(entries.size());
+            entries.forEach((namespace, paths) -> builder.put(namespace, ImmutableSortedSet.copyOf(paths)));
+            return new TypeIndex(builder.build());
+        }
+
+        Set<String> namespaces() {
+            return entries.keySet();
+        }
+
+        boolean contains(String namespace, String path) {
+            ImmutableSortedSet<String> paths = entries.get(namespace);
+            return paths != null && paths.contains(path);
+        }
+
+        /**
+         * {@return the entries of the namespace that are the given path or under it}
+         */
+        Iterable<String> list(String namespace, String path) {
+            ImmutableSortedSet<String> paths = entries.get(namespace);
+            if (paths == null)
+                return List.of();
+            if (path.isEmpty())
+                return paths;
+            if (paths.contains(path))
+                return List.of(path);
+
+            // All entries under the path sort between "path/" and "path/" followed by the largest char
+            return paths.subSet(path + "/", path + "/" + Character.MAX_VALUE);
+        }
+    }
+
+    /**
+     * A resources supplier for an immutable pack root, which keeps the indexes of the root and its overlays.
+     */
+    public static class IndexedResourcesSupplier implements Pack.ResourcesSupplier {
+        private final Path content;
+        private final boolean isBuiltin;
+        private final Index index;
+        private final Map<String, Index> overlayIndexes = new ConcurrentHashMap<>();
+
+        public IndexedResourcesSupplier(Path content, boolean isBuiltin) {
+            this.content = content;
+            this.isBuiltin = isBuiltin;
+            this.index = new Index(content);
+        }
+
+        @Override
+        public PackResources openPrimary(String id) {
+            return new IndexedPathPackResources(id, content, isBuiltin, index);
+        }
+
+        @Override
+        public PackResources openFull(String id, Pack.Info info) {
+            PackResources primary = openPrimary(id);
+            List<String> overlays = info.overlays();
+            if (overlays.isEmpty())
+                return primary;
+
+            List<PackResources> overlayResources = new ArrayList<>(overlays.size());
+            for (String overlay : overlays) {
+                Path overlayRoot = content.resolve(overlay);
+                overlayResources.add(new IndexedPathPackResources(id, overlayRoot, isBuiltin, overlayIndexes.computeIfAbsent(overlay, k -> new Index(overlayRoot))));
+            }
+            return new CompositePackResources(primary, overlayResources);
+        }
+    }
+}
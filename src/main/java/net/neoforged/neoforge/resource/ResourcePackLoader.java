@@ -11,6 +11,8 @@ import com.mojang.serialization.codecs.RecordCodecBuilder;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
@@ -187,7 +189,12 @@ public class ResourcePackLoader {
     }
 
     public static Pack.ResourcesSupplier createPackForMod(IModFileInfo mf) {
-        return new PathPackResources.PathResourcesSupplier(mf.getFile().getSecureJar().getRootPath(), true);
+        Path root = mf.getFile().getSecureJar().getRootPath();
+        // Jars cannot change while the game runs, so their contents can be indexed once.
+        // Mods loaded from directories (e.g. in development) are walked on every reload so that changes are picked up.
+        if (Files.isRegularFile(mf.getFile().getFilePath()))
+            return new IndexedPathPackResources.IndexedResourcesSupplier(root, true);
+        return new PathPackResources.PathResourcesSupplier(root, true);
     }
 
     public static List<String> getDataPackNames() {
@@ -31,10 +31,14 @@ import net.neoforged.neoforge.event.server.ServerStartingEvent;
 import net.neoforged.neoforge.event.server.ServerStoppedEvent;
 import net.neoforged.neoforge.event.server.ServerStoppingEvent;
 import net.neoforged.neoforge.gametest.GameTestHooks;
+import net.neoforged.neoforge.network.ContainerDataBatcher;
+import net.neoforged.neoforge.network.payload.AdvancedAddEntityPayload;
+import net.neoforged.neoforge.network.registration.PayloadDispatcher;
 import net.neoforged.neoforge.registries.NeoForgeRegistries;
 import net.neoforged.neoforge.registries.NeoForgeRegistries.Keys;
 import net.neoforged.neoforge.registries.RegistryManager;
 import net.neoforged.neoforge.server.permission.PermissionAPI;
+import net.neoforged.neoforge.server.timings.ServerTickTimes;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.Marker;
@@ -114,6 +118,10 @@ public class ServerLifecycleHooks {
             latch.countDown();
             exitLatch = null;
         }
+        ServerTickTimes.reset();
+        PayloadDispatcher.clearServerPayloads();
+        AdvancedAddEntityPayload.clearTickCache();
+        ContainerDataBatcher.clearAll();
         ConfigTracker.INSTANCE.unloadConfigs(ModConfig.Type.SERVER);
     }
 
@@ -17,6 +17,7 @@ public class NeoForgeCommand {
                 LiteralArgumentBuilder.<CommandSourceStack>literal("neoforge")
                         .then(TPSCommand.register())
                         .then(TrackCommand.register())
+                        .then(ProfileCommand.register())
                         .then(EntityCommand.register())
                         .then(GenerateCommand.register())
                         .then(DimensionsCommand.register())
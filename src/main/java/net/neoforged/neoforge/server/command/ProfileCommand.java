@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.server.command;
+
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.DecimalFormat;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.neoforged.fml.loading.FMLPaths;
+import net.neoforged.neoforge.server.timings.TickHistogram;
+import net.neoforged.neoforge.server.timings.TickProfiler;
+
+class ProfileCommand {
+    private static final DecimalFormat TIME_FORMAT = new DecimalFormat("#####0.00");
+    private static final DateTimeFormatter FILE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss");
+    private static final int MAX_ENTRIES = 10;
+
+    static ArgumentBuilder<CommandSourceStack, ?> register() {
+        return Commands.literal("profile")
+                .requires(cs -> cs.hasPermission(2)) //permission
+                .then(Commands.literal("start").executes(ctx -> {
+                    TickProfiler.ENTITIES.setEnabled(true);
+                    TickProfiler.BLOCK_ENTITIES.setEnabled(true);
+                    ctx.getSource().sendSuccess(() -> Component.translatable("commands.neoforge.profile.started"), true);
+                    return 0;
+                }))
+                .then(Commands.literal("stop").executes(ctx -> {
+                    TickProfiler.ENTITIES.setEnabled(false);
+                    TickProfiler.BLOCK_ENTITIES.setEnabled(false);
+                    ctx.getSource().sendSuccess(() -> Component.translatable("commands.neoforge.profile.stopped"), true);
+                    return 0;
+                }))
+                .then(Commands.literal("reset").executes(ctx -> {
+                    TickProfiler.ENTITIES.reset();
+                    TickProfiler.BLOCK_ENTITIES.reset();
+                    ctx.getSource().sendSuccess(() -> Component.translatable("commands.neoforge.profile.reset"), true);
+                    return 0;
+                }))
+                .then(Commands.literal("entity")
+                        .executes(ctx -> sendResults(ctx.getSource(), TickProfiler.ENTITIES.getByType()))
+                        .then(Commands.literal("mod").executes(ctx -> sendResults(ctx.getSource(), TickProfiler.ENTITIES.getByMod()))))
+                .then(Commands.literal("te")
+                        .executes(ctx -> sendResults(ctx.getSource(), TickProfiler.BLOCK_ENTITIES.getByType()))
+                        .then(Commands.literal("mod").executes(ctx -> sendResults(ctx.getSource(), TickProfiler.BLOCK_ENTITIES.getByMod()))))
+                .then(Commands.literal("dump").executes(ctx -> {
+                    Path file = FMLPaths.GAMEDIR.get().resolve("profiles").resolve("ticks-" + LocalDateTime.now().format(FILE_NAME_FORMAT) + ".txt");
+                    try {
+                        dump(file);
+                    } catch (IOException e) {
+                        ctx.getSource().sendFailure(Component.translatable("commands.neoforge.profile.dump.failed", e.getMessage()));
+                        return 0;
+                    }
+                    ctx.getSource().sendSuccess(() -> Component.translatable("commands.neoforge.profile.dump", file.toString()), true);
+                    return 0;
+                }));
+    }
+
+    private static int sendResults(CommandSourceStack source, Map<?, TickHistogram> results) {
+        if (results.isEmpty()) {
+            source.sendSuccess(() -> Component.translatable("commands.neoforge.tracking.no_data"), true);
+            return 0;
+        }
+
+        results.entrySet().stream().limit(MAX_ENTRIES).forEach(entry -> {
+            TickHistogram histogram = entry.getValue();
+            source.sendSuccess(() -> Component.translatable("commands.neoforge.profile.entry", entry.getKey().toString(), histogram.getCount(),
+                    formatNanos(histogram.getMeanNanos()), formatNanos(histogram.getPercentileNanos(99)), formatNanos(histogram.getMaxNanos()), formatNanos(histogram.getTotalNanos())), false);
+        });
+        return results.size();
+    }
+
+    private static void dump(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            dumpSection(writer, "Entities by type", TickProfiler.ENTITIES.getByType());
+            dumpSection(writer, "Entities by mod", TickProfiler.ENTITIES.getByMod());
+            dumpSection(writer, "Block entities by type", TickProfiler.BLOCK_ENTITIES.getByType());
+            dumpSection(writer, "Block entities by mod", TickProfiler.BLOCK_ENTITIES.getByMod());
+        }
+    }
+
+    private static void dumpSection(PrintWriter writer, String title, Map<?, TickHistogram> results) {
+        writer.println("== " + title + " ==");
+        writer.println("name\tticks\tmean\tp50\tp95\tp99\tmax\ttotal");
+        results.forEach((name, histogram) -> writer.println(String.join("\t", name.toString(), Long.toString(histogram.getCount()),
+                formatNanos(histogram.getMeanNanos()), formatNanos(histogram.getPercentileNanos(50)), formatNanos(histogram.getPercentileNanos(95)),
+                formatNanos(histogram.getPercentileNanos(99)), formatNanos(histogram.getMaxNanos()), formatNanos(histogram.getTotalNanos()))));
+        writer.println();
+    }
+
+    private static String formatNanos(double nanos) {
+        double micros = nanos / 1000;
+        return micros >= 1000 ? TIME_FORMAT.format(micros / 1000) + "ms" : TIME_FORMAT.format(micros) + "\u03bcs";
+    }
+}
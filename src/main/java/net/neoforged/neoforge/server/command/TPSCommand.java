@@ -8,6 +8,7 @@ package net.neoforged.neoforge.server.command;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import java.text.DecimalFormat;
+import java.time.format.DateTimeFormatter;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.DimensionArgument;
@@ -17,14 +18,22 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.TimeUtil;
 import net.minecraft.world.level.dimension.DimensionType;
+import net.neoforged.neoforge.server.timings.LagSpikeRecorder;
+import net.neoforged.neoforge.server.timings.ServerTickTimes;
+import net.neoforged.neoforge.server.timings.TickHistogram;
+import net.neoforged.neoforge.server.timings.TickTimeWindows;
 
 class TPSCommand {
     private static final DecimalFormat TIME_FORMATTER = new DecimalFormat("########0.000");
     private static final long[] UNLOADED = new long[] { 0 };
+    private static final int[] WINDOWS = { 1, 5, 15 };
+    private static final DateTimeFormatter SPIKE_TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
 
     static ArgumentBuilder<CommandSourceStack, ?> register() {
         return Commands.literal("tps")
                 .requires(cs -> cs.hasPermission(0)) //permission
+                .then(Commands.literal("detailed")
+                        .executes(ctx -> sendDetailed(ctx.getSource())))
                 .then(Commands.argument("dim", DimensionArgument.dimension())
                         .executes(ctx -> sendTime(ctx.getSource(), DimensionArgument.getDimension(ctx, "dim"))))
                 .executes(ctx -> {
@@ -54,6 +63,38 @@ class TPSCommand {
         return 1;
     }
 
+    private static int sendDetailed(CommandSourceStack cs) {
+        sendWindows(cs, Component.translatable("commands.neoforge.tps.detailed.overall"), ServerTickTimes.getServerWindows());
+        for (ServerLevel dim : cs.getServer().getAllLevels()) {
+            TickTimeWindows windows = ServerTickTimes.getLevelWindows(dim.dimension());
+            if (windows != null)
+                sendWindows(cs, Component.literal(dim.dimension().location().toString()), windows);
+        }
+
+        int threshold = ServerTickTimes.getLagSpikeThreshold();
+        LagSpikeRecorder spikes = ServerTickTimes.getSpikeRecorder();
+        if (spikes == null || spikes.getSpikeCount() == 0 || spikes.getLastSpikeTime() == null) {
+            cs.sendSuccess(() -> Component.translatable("commands.neoforge.tps.detailed.no_spikes", threshold), false);
+        } else {
+            cs.sendSuccess(() -> Component.translatable("commands.neoforge.tps.detailed.spikes", threshold, spikes.getSpikeCount(),
+                    TIME_FORMATTER.format(spikes.getLastSpikeNanos() * 1.0E-6D), SPIKE_TIME_FORMATTER.format(spikes.getLastSpikeTime())), false);
+        }
+        return 0;
+    }
+
+    private static void sendWindows(CommandSourceStack cs, Component name, TickTimeWindows windows) {
+        cs.sendSuccess(() -> Component.translatable("commands.neoforge.tps.detailed.header", name), false);
+        for (int minutes : WINDOWS) {
+            TickHistogram histogram = windows.getWindow(minutes);
+            cs.sendSuccess(() -> Component.translatable("commands.neoforge.tps.detailed.window", minutes, formatMillis(histogram.getPercentileNanos(50)),
+                    formatMillis(histogram.getPercentileNanos(95)), formatMillis(histogram.getPercentileNanos(99)), formatMillis(histogram.getMaxNanos()), histogram.getCount()), false);
+        }
+    }
+
+    private static String formatMillis(long nanos) {
+        return TIME_FORMATTER.format(nanos * 1.0E-6D);
+    }
+
     private static long mean(long[] values) {
         long sum = 0L;
         for (long v : values)
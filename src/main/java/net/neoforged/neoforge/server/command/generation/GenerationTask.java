@@ -26,6 +26,7 @@ import net.minecraft.server.level.TicketType;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.ChunkStatus;
+import net.neoforged.neoforge.common.metrics.NeoForgeMetrics;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -170,8 +171,10 @@ public class GenerationTask {
 
         if (result.left().isPresent()) {
             this.okCount.getAndIncrement();
+            NeoForgeMetrics.PREGEN_CHUNKS.increment("ok");
         } else {
             this.errorCount.getAndIncrement();
+            NeoForgeMetrics.PREGEN_CHUNKS.increment("error");
         }
 
         this.listener.update(this.okCount.get(), this.errorCount.get(), this.skippedCount.get(), this.totalCount);
@@ -191,6 +194,7 @@ public class GenerationTask {
             ChunkPos chunkPosInLocalSpace = iterator.next();
             if (isChunkFullyGenerated(chunkPosInLocalSpace)) {
                 this.skippedCount.incrementAndGet();
+                NeoForgeMetrics.PREGEN_CHUNKS.increment("skipped");
                 this.listener.update(this.okCount.get(), this.errorCount.get(), this.skippedCount.get(), this.totalCount);
                 continue;
             }
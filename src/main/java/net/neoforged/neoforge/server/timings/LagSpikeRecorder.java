@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.server.timings;
+
+import com.mojang.logging.LogUtils;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+/**
+ * Records server ticks that take longer than a threshold to a rolling log file.
+ * <p>
+ * While a tick is running, a daemon thread periodically checks how long it has been running for,
+ * and takes a stack sample of the server thread each time it finds it over the threshold.
+ * When the tick ends, the samples are written out along with the per-dimension tick times and the
+ * top contributors of the {@link TickProfiler}s, if they are enabled.
+ * Reports are written off-thread, and at most one report is written every {@value #REPORT_COOLDOWN_SECONDS} seconds.
+ */
+@ApiStatus.Internal
+public final class LagSpikeRecorder {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final int MAX_SAMPLES = 5;
+    private static final int MAX_STACK_DEPTH = 64;
+    private static final int MAX_CONTRIBUTORS = 5;
+    private static final long REPORT_COOLDOWN_SECONDS = 10;
+    private static final long MAX_FILE_SIZE = 4 * 1024 * 1024;
+
+    private final MinecraftServer server;
+    private final Path file;
+    private final Thread serverThread;
+    private final Thread sampler;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "NeoForge Lag Spike Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean running = true;
+    private volatile long thresholdNanos;
+    /**
+     * Start of the current tick, or {@code -1} when the server is between ticks.
+     */
+    private volatile long tickStartNanos = -1;
+    private final List<StackTraceElement[]> samples = new ArrayList<>();
+
+    private long lastReportNanos;
+    private int spikeCount;
+    private long lastSpikeNanos;
+    @Nullable
+    private LocalDateTime lastSpikeTime;
+
+    public LagSpikeRecorder(MinecraftServer server, Path file) {
+        this.server = server;
+        this.file = file;
+        this.serverThread = server.getRunningThread();
+        this.sampler = new Thread(this::runSampler, "NeoForge Lag Spike Sampler");
+        this.sampler.setDaemon(true);
+        this.sampler.start();
+        this.lastReportNanos = System.nanoTime() - TimeUnit.SECONDS.toNanos(REPORT_COOLDOWN_SECONDS);
+    }
+
+    /**
+     * Called on the server thread when a tick starts.
+     *
+     * @param thresholdMillis the current threshold, or 0 to disable recording
+     */
+    public void onTickStart(long startNanos, int thresholdMillis) {
+        thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        synchronized (samples) {
+            samples.clear();
+        }
+        tickStartNanos = thresholdMillis > 0 ? startNanos : -1;
+    }
+
+    /**
+     * Called on the server thread when a tick ends.
+     */
+    public void onTickEnd(long tickNanos) {
+        long threshold = thresholdNanos;
+        tickStartNanos = -1;
+        if (threshold <= 0 || tickNanos < threshold)
+            return;
+
+        spikeCount++;
+        lastSpikeNanos = tickNanos;
+        lastSpikeTime = LocalDateTime.now();
+
+        long now = System.nanoTime();
+        if (now - lastReportNanos < TimeUnit.SECONDS.toNanos(REPORT_COOLDOWN_SECONDS))
+            return;
+        lastReportNanos = now;
+
+        String report = buildReport(tickNanos);
+        writer.execute(() -> write(report));
+    }
+
+    public int getSpikeCount() {
+        return spikeCount;
+    }
+
+    public long getLastSpikeNanos() {
+        return lastSpikeNanos;
+    }
+
+    @Nullable
+    public LocalDateTime getLastSpikeTime() {
+        return lastSpikeTime;
+    }
+
+    public void shutdown() {
+        running = false;
+        sampler.interrupt();
+        writer.shutdown();
+    }
+
+    private void runSampler() {
+        while (running) {
+            long threshold = thresholdNanos;
+            try {
+                // Check a few times per threshold, so samples are taken soon after the tick goes over it
+                Thread.sleep(threshold > 0 ? Math.max(10, Math.min(250, TimeUnit.NANOSECONDS.toMillis(threshold) / 4)) : 250);
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            long start = tickStartNanos;
+            if (start < 0 || System.nanoTime() - start < threshold)
+                continue;
+
+            StackTraceElement[] stack = serverThread.getStackTrace();
+            synchronized (samples) {
+                // The tick may have ended while sampling
+                if (tickStartNanos == start && samples.size() < MAX_SAMPLES)
+                    samples.add(stack);
+            }
+        }
+    }
+
+    private String buildReport(long tickNanos) {
+        StringWriter out = new StringWriter();
+        PrintWriter report = new PrintWriter(out);
+        report.printf("==== Lag spike at %s: tick %d took %.2f ms ====%n", lastSpikeTime, server.getTickCount(), tickNanos / 1.0E6);
+
+        for (ServerLevel level : server.getAllLevels()) {
+            long[] times = server.getTickTime(level.dimension());
+            if (times != null)
+                report.printf("  %s: %.2f ms%n", level.dimension().location(), times[server.getTickCount() % times.length] / 1.0E6);
+        }
+
+        appendContributors(report, "entities", TickProfiler.ENTITIES);
+        appendContributors(report, "block entities", TickProfiler.BLOCK_ENTITIES);
+
+        synchronized (samples) {
+            for (int i = 0; i < samples.size(); i++) {
+                report.printf("Server thread sample %d:%n", i + 1);
+                StackTraceElement[] stack = samples.get(i);
+                for (int j = 0; j < Math.min(stack.length, MAX_STACK_DEPTH); j++)
+                    report.printf("    at %s%n", stack[j]);
+                if (stack.length > MAX_STACK_DEPTH)
+                    report.printf("    ... %d more%n", stack.length - MAX_STACK_DEPTH);
+            }
+            if (samples.isEmpty())
+                report.println("No server thread sample was taken during the tick.");
+        }
+
+        report.println();
+        report.flush();
+        return out.toString();
+    }
+
+    private static void appendContributors(PrintWriter report, String title, TickProfiler<?, ?> profiler) {
+        if (!profiler.isEnabled())
+            return;
+
+        report.printf("Top %s since the profiler was started:%n", title);
+        profiler.getByType().entrySet().stream().limit(MAX_CONTRIBUTORS).forEach(e -> {
+            TickHistogram histogram = e.getValue();
+            report.printf("  %s: total %.2f ms, p99 %.3f ms, max %.3f ms%n", e.getKey(), histogram.getTotalNanos() / 1.0E6,
+                    histogram.getPercentileNanos(99) / 1.0E6, histogram.getMaxNanos() / 1.0E6);
+        });
+    }
+
+    private void write(String report) {
+        try {
+            Files.createDirectories(file.getParent());
+            if (Files.exists(file) && Files.size(file) > MAX_FILE_SIZE)
+                Files.move(file, file.resolveSibling(file.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+            Files.writeString(file, report, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOGGER.error("Failed to write lag spike report to {}", file, e);
+        }
+    }
+}
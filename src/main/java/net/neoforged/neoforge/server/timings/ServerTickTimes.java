@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.server.timings;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.Level;
+import net.neoforged.fml.loading.FMLPaths;
+import net.neoforged.neoforge.common.NeoForgeConfig;
+import net.neoforged.neoforge.common.metrics.NeoForgeMetrics;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects the tick time distributions of the server and of each dimension, and records lag spikes.
+ * <p>
+ * Fed from the server tick loop; all methods are expected to be called from the server thread.
+ */
+@ApiStatus.Internal
+public final class ServerTickTimes {
+    private static TickTimeWindows serverWindows = new TickTimeWindows();
+    private static final Map<ResourceKey<Level>, TickTimeWindows> levelWindows = new IdentityHashMap<>();
+    @Nullable
+    private static LagSpikeRecorder spikeRecorder;
+
+    private ServerTickTimes() {}
+
+    public static void onServerTickStart(MinecraftServer server, long startNanos) {
+        if (spikeRecorder == null)
+            spikeRecorder = new LagSpikeRecorder(server, FMLPaths.GAMEDIR.get().resolve("logs").resolve("tick-spikes.log"));
+        spikeRecorder.onTickStart(startNanos, getLagSpikeThreshold());
+    }
+
+    public static void onServerTickEnd(long tickNanos) {
+        serverWindows.record(tickNanos);
+        NeoForgeMetrics.SERVER_TICK_TIME.record(tickNanos);
+        if (spikeRecorder != null)
+            spikeRecorder.onTickEnd(tickNanos);
+    }
+
+    public static void onLevelTickEnd(ResourceKey<Level> dimension, long tickNanos) {
+        levelWindows.computeIfAbsent(dimension, k -> new TickTimeWindows()).record(tickNanos);
+    }
+
+    public static TickTimeWindows getServerWindows() {
+        return serverWindows;
+    }
+
+    @Nullable
+    public static TickTimeWindows getLevelWindows(ResourceKey<Level> dimension) {
+        return levelWindows.get(dimension);
+    }
+
+    @Nullable
+    public static LagSpikeRecorder getSpikeRecorder() {
+        return spikeRecorder;
+    }
+
+    public static int getLagSpikeThreshold() {
+        return NeoForgeConfig.SERVER.lagSpikeThreshold.getAsInt();
+    }
+
+    /**
+     * Clears all recorded data and stops the spike recorder, called when the server stops.
+     */
+    public static void reset() {
+        serverWindows = new TickTimeWindows();
+        levelWindows.clear();
+        if (spikeRecorder != null) {
+            spikeRecorder.shutdown();
+            spikeRecorder = null;
+        }
+    }
+}
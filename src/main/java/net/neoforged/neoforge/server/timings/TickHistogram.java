@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.server.timings;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size histogram of durations in nanoseconds, with logarithmic buckets.
+ * <p>
+ * Each power of two is split into four sub-buckets, so recorded values are kept with a
+ * relative precision of 25% regardless of their magnitude, using a constant amount of memory.
+ * Recording does not allocate.
+ * <p>
+ * This class is not thread-safe; histograms are expected to be written and read from the server thread.
+ */
+public final class TickHistogram {
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = Long.SIZE << SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds, negative values are treated as 0
+     */
+    public void record(long nanos) {
+        if (nanos < 0)
+            nanos = 0;
+
+        counts[bucketIndex(nanos)]++;
+        count++;
+        totalNanos += nanos;
+        if (nanos > maxNanos)
+            maxNanos = nanos;
+    }
+
+    /**
+     * Adds all values recorded in the other histogram to this one.
+     */
+    public void add(TickHistogram other) {
+        for (int i = 0; i < BUCKETS; i++)
+            counts[i] += other.counts[i];
+        count += other.count;
+        totalNanos += other.totalNanos;
+        maxNanos = Math.max(maxNanos, other.maxNanos);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    /**
+     * {@return an upper bound of the given percentile of the recorded values, in nanoseconds}
+     *
+     * @param percentile the percentile, between 0 and 100
+     */
+    public long getPercentileNanos(double percentile) {
+        if (count == 0)
+            return 0;
+
+        long target = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target)
+                return Math.min(bucketUpperBound(i), maxNanos);
+        }
+        return maxNanos;
+    }
+
+    private static int bucketIndex(long nanos) {
+        if (nanos < SUB_BUCKETS)
+            return (int) nanos;
+
+        int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return ((magnitude - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) | subBucket;
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS)
+            return index;
+
+        int magnitude = (index >>> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+        int subBucket = index & (SUB_BUCKETS - 1);
+        long lowerBound = (long) (SUB_BUCKETS + subBucket) << (magnitude - SUB_BUCKET_BITS);
+        return lowerBound + (1L << (magnitude - SUB_BUCKET_BITS)) - 1;
+    }
+}
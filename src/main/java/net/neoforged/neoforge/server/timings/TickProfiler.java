@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.server.timings;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A low-overhead profiler that aggregates the tick time of ticking objects by type into {@link TickHistogram}s.
+ * <p>
+ * Unlike {@link TimeTracker}, which keeps per-object samples for a limited duration, the profiler can stay enabled
+ * indefinitely: it keeps one fixed-size histogram per type, and recording a tick does not allocate.
+ * Results can be viewed per type, or per mod by grouping the types by their registry namespace.
+ * <p>
+ * The profilers are fed by the {@link TimeTracker} hooks, and only record the ticks of server levels.
+ * They are disabled by default, and can be enabled with {@code /neoforge profile start}, or from startup
+ * by setting the {@code neoforge.tickProfiler} system property to {@code true}.
+ *
+ * @param <T> the type of the ticking objects
+ * @param <K> the type used to group ticking objects
+ */
+public final class TickProfiler<T, K> {
+    private static final boolean ENABLED_ON_STARTUP = Boolean.parseBoolean(System.getProperty("neoforge.tickProfiler", "false"));
+
+    /**
+     * A profiler for entity ticks, grouped by entity type
+     */
+    public static final TickProfiler<Entity, EntityType<?>> ENTITIES = new TickProfiler<>(Entity::getType, type -> BuiltInRegistries.ENTITY_TYPE.getKey(type), entity -> entity.level().isClientSide());
+    /**
+     * A profiler for block entity ticks, grouped by block entity type
+     */
+    public static final TickProfiler<BlockEntity, BlockEntityType<?>> BLOCK_ENTITIES = new TickProfiler<>(BlockEntity::getType, type -> BuiltInRegistries.BLOCK_ENTITY_TYPE.getKey(type), blockEntity -> blockEntity.getLevel() == null || blockEntity.getLevel().isClientSide());
+
+    private final Function<T, K> typeGetter;
+    private final Function<K, @Nullable ResourceLocation> nameGetter;
+    private final Predicate<T> clientSide;
+    private final Map<K, TickHistogram> histograms = new ConcurrentHashMap<>();
+    /**
+     * The tick being timed on each thread, as the client and the integrated server tick the same kinds of objects.
+     */
+    private final ThreadLocal<InFlight<T>> inFlight = ThreadLocal.withInitial(InFlight::new);
+
+    private volatile boolean enabled = ENABLED_ON_STARTUP;
+
+    private TickProfiler(Function<T, K> typeGetter, Function<K, @Nullable ResourceLocation> nameGetter, Predicate<T> clientSide) {
+        this.typeGetter = typeGetter;
+        this.nameGetter = nameGetter;
+        this.clientSide = clientSide;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        this.inFlight.get().current = null;
+    }
+
+    /**
+     * Clears all recorded data, without changing whether the profiler is enabled.
+     */
+    public void reset() {
+        histograms.clear();
+    }
+
+    /**
+     * Starts timing the tick of the given object. Objects of client levels are ignored.
+     */
+    public void start(T object) {
+        if (!enabled || clientSide.test(object))
+            return;
+
+        InFlight<T> tick = inFlight.get();
+        tick.current = object;
+        tick.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Ends timing the tick of the given object, recording the time since {@link #start(Object)}.
+     */
+    public void end(T object) {
+        if (!enabled)
+            return;
+
+        InFlight<T> tick = inFlight.get();
+        if (tick.current != object)
+            return;
+
+        long nanos = System.nanoTime() - tick.startNanos;
+        tick.current = null;
+        histograms.computeIfAbsent(typeGetter.apply(object), k -> new TickHistogram()).record(nanos);
+    }
+
+    /**
+     * {@return the recorded histograms by type name, sorted by descending total tick time}
+     */
+    public Map<ResourceLocation, TickHistogram> getByType() {
+        // Sort on a snapshot of the totals, as they may change while sorting
+        Map<ResourceLocation, TickHistogram> byType = new LinkedHashMap<>();
+        histograms.entrySet().stream()
+                .map(e -> Map.entry(e, e.getValue().getTotalNanos()))
+                .sorted(Map.Entry.<Map.Entry<K, TickHistogram>, Long>comparingByValue().reversed())
+                .forEach(e -> {
+                    ResourceLocation name = nameGetter.apply(e.getKey().getKey());
+                    if (name != null)
+                        byType.put(name, e.getKey().getValue());
+                });
+        return byType;
+    }
+
+    /**
+     * {@return the recorded histograms merged by mod id, sorted by descending total tick time}
+     */
+    public Map<String, TickHistogram> getByMod() {
+        Map<String, TickHistogram> byMod = new HashMap<>();
+        getByType().forEach((name, histogram) -> byMod.computeIfAbsent(name.getNamespace(), k -> new TickHistogram()).add(histogram));
+
+        Map<String, TickHistogram> sorted = new LinkedHashMap<>();
+        byMod.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, TickHistogram> e) -> e.getValue().getTotalNanos()).reversed())
+                .forEach(e -> sorted.put(e.getKey(), e.getValue()));
+        return sorted;
+    }
+
+    private static final class InFlight<T> {
+        @Nullable
+        private T current;
+        private long startNanos;
+    }
+}
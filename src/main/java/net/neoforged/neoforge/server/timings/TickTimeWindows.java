@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.server.timings;
+
+import net.minecraft.Util;
+
+/**
+ * Tick time histograms over rolling windows of up to {@value #MAX_WINDOW_MINUTES} minutes.
+ * <p>
+ * Tick times are recorded into one {@link TickHistogram} per minute, which are merged when a window is queried.
+ * A window of {@code n} minutes covers the {@code n} previous full minutes and the current, partial, one.
+ * <p>
+ * This class is not thread-safe; it is expected to be written and read from the server thread.
+ */
+public final class TickTimeWindows {
+    public static final int MAX_WINDOW_MINUTES = 15;
+    private static final long MILLIS_PER_MINUTE = 60_000;
+    private static final int SLOTS = MAX_WINDOW_MINUTES + 1;
+
+    private final TickHistogram[] histograms = new TickHistogram[SLOTS];
+    private final long[] slotMinutes = new long[SLOTS];
+
+    public TickTimeWindows() {
+        for (int i = 0; i < SLOTS; i++) {
+            histograms[i] = new TickHistogram();
+            slotMinutes[i] = -1;
+        }
+    }
+
+    /**
+     * Records the duration of a tick.
+     */
+    public void record(long nanos) {
+        long minute = Util.getMillis() / MILLIS_PER_MINUTE;
+        int slot = (int) (minute % SLOTS);
+        if (slotMinutes[slot] != minute) {
+            histograms[slot].reset();
+            slotMinutes[slot] = minute;
+        }
+        histograms[slot].record(nanos);
+    }
+
+    /**
+     * {@return a new histogram of the tick times recorded in the given window}
+     *
+     * @param minutes the length of the window in minutes, between 1 and {@value #MAX_WINDOW_MINUTES}
+     */
+    public TickHistogram getWindow(int minutes) {
+        if (minutes < 1 || minutes > MAX_WINDOW_MINUTES)
+            throw new IllegalArgumentException("Window must be between 1 and " + MAX_WINDOW_MINUTES + " minutes: " + minutes);
+
+        long currentMinute = Util.getMillis() / MILLIS_PER_MINUTE;
+        TickHistogram window = new TickHistogram();
+        for (int i = 0; i < SLOTS; i++) {
+            if (slotMinutes[i] >= currentMinute - minutes)
+                window.add(histograms[i]);
+        }
+        return window;
+    }
+}
@@ -13,6 +13,7 @@ import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.block.entity.BlockEntity;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A class to assist in the collection of data to measure the update times of ticking objects {currently Tile Entities and Entities}
@@ -23,11 +24,11 @@ public class TimeTracker<T> {
     /**
      * A tracker for timing tile entity update
      */
-    public static final TimeTracker<BlockEntity> BLOCK_ENTITY_UPDATE = new TimeTracker<>();
+    public static final TimeTracker<BlockEntity> BLOCK_ENTITY_UPDATE = new TimeTracker<>(TickProfiler.BLOCK_ENTITIES);
     /**
      * A tracker for timing entity updates
      */
-    public static final TimeTracker<Entity> ENTITY_UPDATE = new TimeTracker<>();
+    public static final TimeTracker<Entity> ENTITY_UPDATE = new TimeTracker<>(TickProfiler.ENTITIES);
 
     private boolean enabled;
     private int trackingDuration;
@@ -35,6 +36,19 @@ public class TimeTracker<T> {
     private WeakReference<T> currentlyTracking;
     private long trackTime;
     private long timing;
+    @Nullable
+    private final TickProfiler<T, ?> profiler;
+
+    public TimeTracker() {
+        this(null);
+    }
+
+    /**
+     * @param profiler a profiler to also feed with the tracked ticks
+     */
+    public TimeTracker(@Nullable TickProfiler<T, ?> profiler) {
+        this.profiler = profiler;
+    }
 
     /**
      * Returns the timings data recorded by the tracker
@@ -65,6 +79,8 @@ public class TimeTracker<T> {
      * @param tracking The object to stop timing
      */
     public void trackEnd(T tracking) {
+        if (profiler != null)
+            profiler.end(tracking);
         if (!enabled)
             return;
         this.trackEnd(tracking, System.nanoTime());
@@ -86,6 +102,8 @@ public class TimeTracker<T> {
      * @param toTrack The object to start timing
      */
     public void trackStart(T toTrack) {
+        if (profiler != null)
+            profiler.start(toTrack);
         if (!enabled)
             return;
         this.trackStart(toTrack, System.nanoTime());
@@ -317,6 +317,45 @@ public class ExtendedGameTestHelper extends GameTestHelper {
         addEndListener(success -> NeoForge.EVENT_BUS.unregister(event));
     }
 
+    /**
+     * Creates a monitor that measures the ticks of this test's level once {@linkplain PerformanceMonitor#start() started}.
+     * The monitor is stopped when the test ends, if it is still running.
+     */
+    public PerformanceMonitor createPerformanceMonitor() {
+        final PerformanceMonitor monitor = new PerformanceMonitor(testInfo.getTestName(), getLevel());
+        addEndListener(success -> monitor.stopSilently());
+        return monitor;
+    }
+
+    /**
+     * Measures the next {@code ticks} ticks of this test's level, then passes the report to the given assertions
+     * and succeeds the test if they pass. The test's timeout must be greater than {@code ticks}.
+     *
+     * @param ticks      the number of ticks to measure
+     * @param assertions the assertions on the measured ticks, such as {@link PerformanceReport#assertMeanTickMillisAtMost(double)}
+     */
+    public void measureTicks(int ticks, Consumer<PerformanceReport> assertions) {
+        measureTicks(ticks, monitor -> {}, assertions);
+    }
+
+    /**
+     * Measures the next {@code ticks} ticks of this test's level, then passes the report to the given assertions
+     * and succeeds the test if they pass. The test's timeout must be greater than {@code ticks}.
+     *
+     * @param ticks      the number of ticks to measure
+     * @param setup      a consumer to configure the monitor, e.g. to {@linkplain PerformanceMonitor#countEvents(Class) count events}
+     * @param assertions the assertions on the measured ticks, such as {@link PerformanceReport#assertMeanTickMillisAtMost(double)}
+     */
+    public void measureTicks(int ticks, Consumer<PerformanceMonitor> setup, Consumer<PerformanceReport> assertions) {
+        final PerformanceMonitor monitor = createPerformanceMonitor();
+        setup.accept(monitor);
+        startSequence()
+                .thenExecute(monitor::start)
+                .thenIdle(ticks)
+                .thenExecute(() -> assertions.accept(monitor.stop()))
+                .thenSucceed();
+    }
+
     public <E extends LivingEntity> void assertMobEffectPresent(E entity, MobEffect effect, String testName) {
         assertEntityProperty(entity, e -> e.hasEffect(effect), testName);
     }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.testframework.gametest;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import net.minecraft.server.level.ServerLevel;
+import net.neoforged.bus.api.Event;
+import net.neoforged.bus.api.EventPriority;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.TickEvent;
+import net.neoforged.testframework.impl.PerformanceResults;
+
+/**
+ * Measures the ticks of a game test's level, to assert on performance expectations.
+ * <p>
+ * For each tick of the level the monitor records the wall time and, when the JVM supports it,
+ * the number of bytes allocated by the server thread. It can also count the events of given types posted meanwhile.
+ * <p>
+ * The measured ticks include everything else that runs in the level, so performance tests should
+ * be placed in their own batch to not be affected by other tests.
+ *
+ * @see ExtendedGameTestHelper#measureTicks(int, Consumer)
+ */
+public final class PerformanceMonitor {
+    private static final java.lang.management.ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final String testName;
+    private final ServerLevel level;
+    private final LongArrayList tickNanos = new LongArrayList();
+    private final Map<Class<? extends Event>, AtomicLong> eventCounts = new LinkedHashMap<>();
+    private final Map<Class<? extends Event>, Consumer<? extends Event>> eventListeners = new LinkedHashMap<>();
+    private final Consumer<TickEvent.LevelTickEvent> tickListener = this::onLevelTick;
+
+    private long tickStartNanos = -1;
+    private long tickStartAllocatedBytes;
+    private long allocatedBytes;
+    private boolean allocationSupported = true;
+    private boolean running;
+
+    PerformanceMonitor(String testName, ServerLevel level) {
+        this.testName = testName;
+        this.level = level;
+    }
+
+    /**
+     * Counts the events of the given type posted while the monitor runs, including canceled ones.
+     */
+    @CanIgnoreReturnValue
+    public <T extends Event> PerformanceMonitor countEvents(Class<T> type) {
+        if (eventCounts.containsKey(type))
+            return this;
+
+        AtomicLong count = new AtomicLong();
+        Consumer<T> listener = event -> count.incrementAndGet();
+        eventCounts.put(type, count);
+        eventListeners.put(type, listener);
+        if (running)
+            NeoForge.EVENT_BUS.addListener(EventPriority.MONITOR, true, type, listener);
+        return this;
+    }
+
+    /**
+     * Starts measuring from the next tick of the level.
+     */
+    @CanIgnoreReturnValue
+    public PerformanceMonitor start() {
+        if (running)
+            return this;
+
+        running = true;
+        NeoForge.EVENT_BUS.addListener(EventPriority.HIGHEST, true, TickEvent.LevelTickEvent.class, tickListener);
+        eventListeners.forEach(this::register);
+        return this;
+    }
+
+    /**
+     * Stops measuring, and records the report so that it is included in the test summary.
+     *
+     * @return the measurements
+     */
+    public PerformanceReport stop() {
+        stopSilently();
+
+        Map<Class<? extends Event>, Long> counts = new LinkedHashMap<>();
+        eventCounts.forEach((type, count) -> counts.put(type, count.get()));
+        PerformanceReport report = new PerformanceReport(testName, tickNanos.toLongArray(), allocationSupported ? allocatedBytes : -1, counts);
+        PerformanceResults.record(report);
+        return report;
+    }
+
+    /**
+     * Stops measuring without recording a report.
+     */
+    void stopSilently() {
+        if (!running)
+            return;
+
+        running = false;
+        NeoForge.EVENT_BUS.unregister(tickListener);
+        eventListeners.values().forEach(NeoForge.EVENT_BUS::unregister);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Event> void register(Class<? extends Event> type, Consumer<? extends Event> listener) {
+        NeoForge.EVENT_BUS.addListener(EventPriority.MONITOR, true, (Class<T>) type, (Consumer<T>) listener);
+    }
+
+    private void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.level != level)
+            return;
+
+        if (event.phase == TickEvent.Phase.START) {
+            tickStartAllocatedBytes = currentThreadAllocatedBytes();
+            tickStartNanos = System.nanoTime();
+        } else if (tickStartNanos >= 0) {
+            tickNanos.add(System.nanoTime() - tickStartNanos);
+            long allocated = currentThreadAllocatedBytes();
+            if (allocated >= 0 && tickStartAllocatedBytes >= 0)
+                allocatedBytes += allocated - tickStartAllocatedBytes;
+            else
+                allocationSupported = false;
+            tickStartNanos = -1;
+        }
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (THREAD_BEAN instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled())
+            return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        return -1;
+    }
+}
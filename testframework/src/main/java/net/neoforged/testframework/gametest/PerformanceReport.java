@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.testframework.gametest;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import net.minecraft.gametest.framework.GameTestAssertException;
+import net.neoforged.bus.api.Event;
+
+/**
+ * The measurements of a {@link PerformanceMonitor}, with assertions on them.
+ *
+ * @param testName       the name of the game test that was measured
+ * @param tickNanos      the duration of each measured tick, in nanoseconds
+ * @param allocatedBytes the bytes allocated by the server thread during the measured ticks, or {@code -1} if the JVM cannot measure it
+ * @param eventCounts    the number of posted events, for each counted event type
+ */
+public record PerformanceReport(String testName, long[] tickNanos, long allocatedBytes, Map<Class<? extends Event>, Long> eventCounts) {
+    public int ticks() {
+        return tickNanos.length;
+    }
+
+    public double meanTickMillis() {
+        return tickNanos.length == 0 ? 0 : Arrays.stream(tickNanos).average().orElse(0) / 1.0E6;
+    }
+
+    public double maxTickMillis() {
+        return Arrays.stream(tickNanos).max().orElse(0) / 1.0E6;
+    }
+
+    /**
+     * @param percentile the percentile, between 0 and 100
+     */
+    public double percentileTickMillis(double percentile) {
+        if (tickNanos.length == 0)
+            return 0;
+
+        long[] sorted = tickNanos.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(sorted.length * percentile / 100.0) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1.0E6;
+    }
+
+    /**
+     * {@return the mean number of bytes allocated per tick, or {@code -1} if the JVM cannot measure it}
+     */
+    public long allocatedBytesPerTick() {
+        if (allocatedBytes < 0)
+            return -1;
+        return tickNanos.length == 0 ? 0 : allocatedBytes / tickNanos.length;
+    }
+
+    public long eventCount(Class<? extends Event> type) {
+        Long count = eventCounts.get(type);
+        if (count == null)
+            throw new IllegalArgumentException("Events of type " + type.getName() + " were not counted");
+        return count;
+    }
+
+    @CanIgnoreReturnValue
+    public PerformanceReport assertMeanTickMillisAtMost(double millis) {
+        return check(meanTickMillis() <= millis, "Mean tick time %.3f ms exceeds the budget of %.3f ms", meanTickMillis(), millis);
+    }
+
+    @CanIgnoreReturnValue
+    public PerformanceReport assertPercentileTickMillisAtMost(double percentile, double millis) {
+        double actual = percentileTickMillis(percentile);
+        return check(actual <= millis, "p%s tick time %.3f ms exceeds the budget of %.3f ms", percentile, actual, millis);
+    }
+
+    @CanIgnoreReturnValue
+    public PerformanceReport assertMaxTickMillisAtMost(double millis) {
+        return check(maxTickMillis() <= millis, "Max tick time %.3f ms exceeds the budget of %.3f ms", maxTickMillis(), millis);
+    }
+
+    /**
+     * Asserts on the allocation rate. Passes if the JVM cannot measure allocations.
+     */
+    @CanIgnoreReturnValue
+    public PerformanceReport assertAllocatedBytesPerTickAtMost(long bytes) {
+        long actual = allocatedBytesPerTick();
+        return check(actual <= bytes, "Allocated %d bytes per tick, exceeding the budget of %d bytes", actual, bytes);
+    }
+
+    @CanIgnoreReturnValue
+    public PerformanceReport assertEventCountAtMost(Class<? extends Event> type, long count) {
+        long actual = eventCount(type);
+        return check(actual <= count, "%d %s events were posted, exceeding the budget of %d", actual, type.getSimpleName(), count);
+    }
+
+    private PerformanceReport check(boolean condition, String message, Object... args) {
+        if (!condition)
+            throw new GameTestAssertException(String.format(Locale.ROOT, message, args) + " over " + ticks() + " ticks");
+        return this;
+    }
+}
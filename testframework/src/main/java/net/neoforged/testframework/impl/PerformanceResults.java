@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.testframework.impl;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import net.neoforged.testframework.gametest.PerformanceReport;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Collects the {@link PerformanceReport}s of the game tests, to be included in the test summary.
+ */
+@ApiStatus.Internal
+public final class PerformanceResults {
+    private static final List<PerformanceReport> REPORTS = new CopyOnWriteArrayList<>();
+
+    private PerformanceResults() {}
+
+    public static void record(PerformanceReport report) {
+        REPORTS.add(report);
+    }
+
+    public static List<PerformanceReport> all() {
+        return List.copyOf(REPORTS);
+    }
+}
@@ -7,9 +7,13 @@ package net.neoforged.testframework.impl;
 
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import net.neoforged.testframework.Test;
+import net.neoforged.testframework.gametest.PerformanceReport;
 import net.neoforged.testframework.impl.md.Alignment;
 import net.neoforged.testframework.impl.md.Table;
 import org.jetbrains.annotations.ApiStatus;
@@ -36,6 +40,29 @@ public record SummaryDumper(MutableTestFramework framework) {
         return builder.toString();
     }
 
+    public String dumpPerformanceTable() {
+        final List<PerformanceReport> reports = PerformanceResults.all();
+        if (reports.isEmpty()) return "";
+
+        final Table.Builder builder = Table.builder()
+                .useFirstRowAsHeader(true)
+                .withAlignment(Alignment.CENTER)
+                .addRow("Test", "Ticks", "Mean (ms)", "p95 (ms)", "Max (ms)", "Allocated / tick", "Events");
+
+        reports.forEach(report -> builder.addRow(
+                report.testName(),
+                report.ticks(),
+                String.format(Locale.ROOT, "%.3f", report.meanTickMillis()),
+                String.format(Locale.ROOT, "%.3f", report.percentileTickMillis(95)),
+                String.format(Locale.ROOT, "%.3f", report.maxTickMillis()),
+                report.allocatedBytesPerTick() < 0 ? "-" : report.allocatedBytesPerTick() + " B",
+                report.eventCounts().isEmpty() ? "-" : report.eventCounts().entrySet().stream()
+                        .map(e -> e.getKey().getSimpleName() + ": " + e.getValue())
+                        .collect(Collectors.joining(", "))));
+
+        return "## Performance\n" + builder;
+    }
+
     public String createLoggingSummary() {
         final StringBuilder summary = new StringBuilder();
 
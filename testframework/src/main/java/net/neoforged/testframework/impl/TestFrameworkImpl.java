@@ -162,8 +162,10 @@ public class TestFrameworkImpl implements MutableTestFramework {
                     ## Enabled Tests
                     %s
 
+                    %s
+
                     %s"""
-                    .formatted(summaryDumper.createDisabledList(), summaryDumper.createEnabledList(), summaryDumper.dumpTable());
+                    .formatted(summaryDumper.createDisabledList(), summaryDumper.createEnabledList(), summaryDumper.dumpTable(), summaryDumper.dumpPerformanceTable());
             LamdbaExceptionUtils.uncheck(() -> Files.createDirectories(dumpPath.getParent()));
             LamdbaExceptionUtils.uncheck(() -> Files.writeString(dumpPath, summary));
             logger().info("Dumped test summary to {}", dumpPath);
@@ -19,7 +19,10 @@ import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.MobCategory;
 import net.minecraft.world.level.GameType;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
 import net.neoforged.neoforge.entity.IEntityWithComplexSpawn;
+import net.neoforged.neoforge.entity.PartEntity;
 import net.neoforged.neoforge.network.event.RegisterPayloadHandlerEvent;
 import net.neoforged.neoforge.network.payload.AdvancedAddEntityPayload;
 import net.neoforged.testframework.DynamicTest;
@@ -81,6 +84,26 @@ public class EntityTests {
         });
     }
 
+    @GameTest
+    @EmptyTemplate(floor = true)
+    @TestHolder(description = "Tests that part entities moved through setPosRaw are found by bounding box queries around their new position")
+    static void movedPartEntityQuery(final DynamicTest test) {
+        test.onGameTest(helper -> {
+            final var dragon = helper.spawnWithNoFreeWill(EntityType.ENDER_DRAGON, 1, 2, 1);
+            final PartEntity<?> part = dragon.getParts()[0];
+            final Vec3 oldPos = part.position();
+            // Move the part two sections away, without going through setPos
+            final Vec3 newPos = oldPos.add(32, 0, 32);
+            part.setPosRaw(newPos.x, newPos.y, newPos.z);
+            part.setBoundingBox(part.getDimensions(part.getPose()).makeBoundingBox(newPos));
+
+            helper.assertTrue(helper.getLevel().getEntities(null, AABB.ofSize(newPos, 2, 2, 2)).contains(part), "Moved part was not found around its new position");
+            helper.assertFalse(helper.getLevel().getEntities(null, AABB.ofSize(oldPos, 2, 2, 2)).contains(part), "Moved part was still found around its old position");
+            dragon.discard();
+            helper.succeed();
+        });
+    }
+
     public static final class CustomComplexSpawnEntity extends Entity implements IEntityWithComplexSpawn {
         public CustomComplexSpawnEntity(EntityType<?> type, Level level) {
             super(type, level);
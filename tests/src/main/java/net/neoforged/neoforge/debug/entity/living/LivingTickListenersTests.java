@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.debug.entity.living;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.monster.Monster;
+import net.minecraft.world.entity.monster.Zombie;
+import net.neoforged.bus.api.EventPriority;
+import net.neoforged.neoforge.event.entity.living.LivingEvent;
+import net.neoforged.neoforge.event.entity.living.LivingTickListeners;
+import net.neoforged.testframework.DynamicTest;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.EmptyTemplate;
+
+/**
+ * Listeners registered to {@link LivingTickListeners} cannot be unregistered,
+ * so every listener here only reacts to the entities spawned by its own test.
+ */
+@ForEachTest(groups = LivingEntityTests.GROUP + ".tick_listeners")
+public class LivingTickListenersTests {
+    @GameTest
+    @EmptyTemplate(floor = true)
+    @TestHolder(description = "Tests that entity type tick listeners are only called for entities of their type")
+    static void typeListenerDispatch(final DynamicTest test) {
+        test.onGameTest(helper -> {
+            final var pig = helper.spawnWithNoFreeWill(EntityType.PIG, 1, 2, 1);
+            final var cow = helper.spawnWithNoFreeWill(EntityType.COW, 1, 2, 3);
+            final Set<LivingEntity> ticked = ConcurrentHashMap.newKeySet();
+            LivingTickListeners.register(EntityType.PIG, entity -> {
+                if (entity == pig || entity == cow)
+                    ticked.add(entity);
+                return false;
+            });
+
+            helper.startSequence()
+                    .thenIdle(2)
+                    .thenExecute(() -> helper.assertTrue(ticked.contains(pig), "Pig tick listener was not called for the pig"))
+                    .thenExecute(() -> helper.assertFalse(ticked.contains(cow), "Pig tick listener was called for the cow"))
+                    .thenSucceed();
+        });
+    }
+
+    @GameTest
+    @EmptyTemplate(floor = true)
+    @TestHolder(description = "Tests that class tick listeners are called for subclasses, but not for other classes")
+    static void classListenerResolution(final DynamicTest test) {
+        test.onGameTest(helper -> {
+            final var husk = helper.spawnWithNoFreeWill(EntityType.HUSK, 1, 2, 1);
+            final var skeleton = helper.spawnWithNoFreeWill(EntityType.SKELETON, 1, 2, 3);
+            final Set<LivingEntity> ticked = ConcurrentHashMap.newKeySet();
+            LivingTickListeners.register(Zombie.class, entity -> {
+                if (entity == husk || entity == skeleton)
+                    ticked.add(entity);
+                return false;
+            });
+
+            helper.startSequence()
+                    .thenIdle(2)
+                    .thenExecute(() -> helper.assertTrue(ticked.contains(husk), "Zombie tick listener was not called for the husk"))
+                    .thenExecute(() -> helper.assertFalse(ticked.contains(skeleton), "Zombie tick listener was called for the skeleton"))
+                    .thenSucceed();
+        });
+    }
+
+    @GameTest
+    @EmptyTemplate(floor = true)
+    @TestHolder(description = "Tests that class tick listeners registered after an entity class was resolved are called")
+    static void classListenerCacheClearing(final DynamicTest test) {
+        test.onGameTest(helper -> {
+            final var husk = helper.spawnWithNoFreeWill(EntityType.HUSK, 1, 2, 1);
+            final AtomicBoolean resolved = new AtomicBoolean();
+            final AtomicBoolean ticked = new AtomicBoolean();
+            LivingTickListeners.register(Monster.class, entity -> {
+                if (entity == husk)
+                    resolved.set(true);
+                return false;
+            });
+
+            helper.startSequence()
+                    .thenIdle(2)
+                    // The listeners of the husk class were resolved, and must be resolved again after this registration
+                    .thenExecute(() -> helper.assertTrue(resolved.get(), "Monster tick listener was not called for the husk"))
+                    .thenExecute(() -> LivingTickListeners.register(Zombie.class, entity -> {
+                        if (entity == husk)
+                            ticked.set(true);
+                        return false;
+                    }))
+                    .thenIdle(2)
+                    .thenExecute(() -> helper.assertTrue(ticked.get(), "Zombie tick listener registered after the resolution was not called for the husk"))
+                    .thenSucceed();
+        });
+    }
+
+    @GameTest
+    @EmptyTemplate(floor = true)
+    @TestHolder(description = "Tests that ticks canceled by a tick listener are only posted to bus listeners that receive canceled events")
+    static void cancelTick(final DynamicTest test) {
+        final AtomicBoolean seenCanceled = new AtomicBoolean();
+        final AtomicBoolean seenByOthers = new AtomicBoolean();
+        final Set<LivingEntity> canceledEntities = ConcurrentHashMap.newKeySet();
+        test.eventListeners().forge().addListener(EventPriority.NORMAL, true, LivingEvent.LivingTickEvent.class, event -> {
+            if (canceledEntities.contains(event.getEntity()) && event.isCanceled())
+                seenCanceled.set(true);
+        });
+        test.eventListeners().forge().addListener(EventPriority.NORMAL, false, LivingEvent.LivingTickEvent.class, event -> {
+            if (canceledEntities.contains(event.getEntity()))
+                seenByOthers.set(true);
+        });
+
+        test.onGameTest(helper -> {
+            final var pig = helper.spawnWithNoFreeWill(EntityType.PIG, 1, 2, 1);
+            canceledEntities.add(pig);
+            LivingTickListeners.register(EntityType.PIG, entity -> entity == pig);
+
+            helper.startSequence()
+                    .thenIdle(2)
+                    .thenExecute(() -> helper.assertTrue(seenCanceled.get(), "Canceled tick was not posted to the listener receiving canceled events"))
+                    .thenExecute(() -> helper.assertFalse(seenByOthers.get(), "Canceled tick was posted to the listener not receiving canceled events"))
+                    .thenSucceed();
+        });
+    }
+}
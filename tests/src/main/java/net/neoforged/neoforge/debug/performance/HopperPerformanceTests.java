@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.debug.performance;
+
+import net.minecraft.core.Direction;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.HopperBlock;
+import net.minecraft.world.level.block.entity.ChestBlockEntity;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.EmptyTemplate;
+import net.neoforged.testframework.gametest.ExtendedGameTestHelper;
+
+@ForEachTest(groups = "performance.hopper")
+public class HopperPerformanceTests {
+    private static final int CHAIN_LENGTH = 7;
+    private static final int MEASURED_TICKS = 200;
+
+    @GameTest(timeoutTicks = MEASURED_TICKS + 50, batch = "performance")
+    @EmptyTemplate(value = "9x3x3", floor = true)
+    @TestHolder(description = "Measures the tick time and allocations of a chain of hoppers moving items between chests")
+    static void hopperChain(final ExtendedGameTestHelper helper) {
+        helper.setBlock(0, 2, 1, Blocks.CHEST);
+        final ChestBlockEntity source = helper.requireBlockEntity(0, 2, 1, ChestBlockEntity.class);
+        for (int slot = 0; slot < source.getContainerSize(); slot++)
+            source.setItem(slot, new ItemStack(Items.COBBLESTONE, 64));
+
+        for (int x = 0; x < CHAIN_LENGTH; x++)
+            helper.setBlock(x, 1, 1, Blocks.HOPPER.defaultBlockState().setValue(HopperBlock.FACING, Direction.EAST));
+        helper.setBlock(CHAIN_LENGTH, 1, 1, Blocks.CHEST);
+
+        // The budgets are deliberately loose so that only real regressions fail on shared CI machines
+        helper.measureTicks(MEASURED_TICKS,
+                monitor -> monitor.countEvents(BlockEvent.NeighborNotifyEvent.class),
+                report -> report
+                        .assertMeanTickMillisAtMost(10)
+                        .assertAllocatedBytesPerTickAtMost(4 * 1024 * 1024)
+                        .assertEventCountAtMost(BlockEvent.NeighborNotifyEvent.class, MEASURED_TICKS));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.unittest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.core.Direction;
+import net.neoforged.neoforge.client.model.BakedQuadInterner;
+import net.neoforged.neoforge.client.model.IQuadTransformer;
+import org.junit.jupiter.api.Test;
+
+public class BakedQuadInternerTest {
+    private static BakedQuad quad(int seed, int tintIndex) {
+        int[] vertices = new int[IQuadTransformer.STRIDE * 4];
+        vertices[IQuadTransformer.POSITION] = seed;
+        return new BakedQuad(vertices, tintIndex, Direction.UP, null, true);
+    }
+
+    @Test
+    public void testEqualQuadsAreShared() {
+        BakedQuadInterner interner = new BakedQuadInterner();
+        BakedQuad first = quad(1, -1);
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(quad(1, -1)));
+        assertEquals(1, interner.size());
+        assertEquals(0.5, interner.hitRate());
+    }
+
+    @Test
+    public void testDifferentQuadsAreKept() {
+        BakedQuadInterner interner = new BakedQuadInterner();
+        BakedQuad first = interner.intern(quad(1, -1));
+        assertNotSame(first, interner.intern(quad(2, -1)));
+        assertNotSame(first, interner.intern(quad(1, 0)));
+        assertEquals(3, interner.size());
+        assertEquals(0, interner.hits());
+    }
+
+    @Test
+    public void testInternAll() {
+        BakedQuadInterner interner = new BakedQuadInterner();
+        BakedQuad first = quad(1, -1);
+        List<BakedQuad> quads = new ArrayList<>(List.of(first, quad(1, -1), quad(2, -1)));
+        assertTrue(interner.internAll(quads));
+        assertSame(first, quads.get(1));
+        assertFalse(interner.internAll(List.of(quad(1, -1))));
+    }
+
+    @Test
+    public void testTransformedQuadsAreShared() {
+        BakedQuadInterner interner = new BakedQuadInterner();
+        IQuadTransformer transformer = quad -> quad.getVertices()[IQuadTransformer.POSITION] = 5;
+        List<BakedQuad> transformed = transformer.process(List.of(quad(1, -1), quad(2, -1)), interner);
+        assertSame(transformed.get(0), transformed.get(1));
+        assertEquals(0.5, interner.hitRate());
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.unittest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import net.minecraft.client.renderer.block.model.BlockModel;
+import net.minecraft.client.renderer.block.model.BuiltInModel;
+import net.minecraft.client.renderer.block.model.ItemOverrides;
+import net.minecraft.client.renderer.block.model.ItemTransforms;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.client.resources.model.Material;
+import net.minecraft.client.resources.model.ModelBaker;
+import net.minecraft.client.resources.model.ModelState;
+import net.minecraft.client.resources.model.UnbakedModel;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.client.model.geometry.ConcurrentModelBaking;
+import net.neoforged.neoforge.client.model.geometry.IGeometryBakingContext;
+import net.neoforged.neoforge.client.model.geometry.IUnbakedGeometry;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentModelBakingTest {
+    private static final Material MATERIAL = new Material(new ResourceLocation("neotests", "atlas"), new ResourceLocation("neotests", "sprite"));
+
+    @Test
+    public void testOnlyModelsThatCanBakeConcurrentlyAreBaked() {
+        Map<ResourceLocation, UnbakedModel> models = new LinkedHashMap<>();
+        for (int i = 0; i < 4; i++)
+            models.put(new ResourceLocation("neotests", "vanilla_" + i), createModel());
+        BlockModel serial = createModel();
+        serial.customData.setCustomGeometry(new SerialGeometry());
+        models.put(new ResourceLocation("neotests", "serial"), serial);
+
+        Map<ResourceLocation, BakedModel> baked = bake(models, (baker, location, model) -> createBakedModel());
+        assertEquals(4, baked.size());
+        assertFalse(baked.containsKey(new ResourceLocation("neotests", "serial")), "Model with non thread safe geometry was baked concurrently");
+    }
+
+    @Test
+    public void testFailedModelsAreLeftToTheCaller() {
+        Map<ResourceLocation, UnbakedModel> models = new LinkedHashMap<>();
+        for (int i = 0; i < 4; i++)
+            models.put(new ResourceLocation("neotests", "model_" + i), createModel());
+        ResourceLocation failing = new ResourceLocation("neotests", "model_2");
+
+        Map<ResourceLocation, BakedModel> baked = bake(models, (baker, location, model) -> {
+            if (location.equals(failing))
+                throw new IllegalStateException("Synthetic failure");
+            return createBakedModel();
+        });
+        assertEquals(3, baked.size());
+        assertFalse(baked.containsKey(failing));
+    }
+
+    @Test
+    public void testSharedStateIsNeverAccessedConcurrently() {
+        // A synthetic workload in which every model does some work of its own and repeatedly looks up sprites and models
+        Map<ResourceLocation, UnbakedModel> models = new LinkedHashMap<>();
+        for (int i = 0; i < 256; i++)
+            models.put(new ResourceLocation("neotests", "model_" + i), createModel());
+
+        AtomicBoolean inSharedState = new AtomicBoolean();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        Runnable accessSharedState = () -> {
+            if (!inSharedState.compareAndSet(false, true))
+                overlapped.set(true);
+            Thread.onSpinWait();
+            inSharedState.set(false);
+        };
+
+        Map<ResourceLocation, BakedModel> baked = ConcurrentModelBaking.bakeTopLevelModelsConcurrently(models, (location, material) -> {
+            accessSharedState.run();
+            return null;
+        }, (spriteGetter, location) -> new StubBaker(spriteGetter, location, accessSharedState), (baker, location, model) -> {
+            double work = 0;
+            for (int i = 0; i < 32; i++) {
+                for (int j = 0; j < 1000; j++)
+                    work += Math.sqrt(i * j + location.hashCode());
+                baker.getModelTextureGetter().apply(MATERIAL);
+                baker.getModel(location);
+            }
+            return work >= 0 ? createBakedModel() : null;
+        });
+        assertEquals(models.keySet(), baked.keySet());
+        assertFalse(overlapped.get(), "The shared sprite getter or baker was accessed concurrently");
+    }
+
+    @Test
+    public void testSingleModelIsLeftToTheCaller() {
+        Map<ResourceLocation, UnbakedModel> models = Map.of(new ResourceLocation("neotests", "single"), createModel());
+        assertTrue(bake(models, (baker, location, model) -> createBakedModel()).isEmpty());
+    }
+
+    private static Map<ResourceLocation, BakedModel> bake(Map<ResourceLocation, UnbakedModel> models, ConcurrentModelBaking.TopLevelModelBaker modelBaker) {
+        return ConcurrentModelBaking.bakeTopLevelModelsConcurrently(models, (location, material) -> null, (spriteGetter, location) -> new StubBaker(spriteGetter, location, () -> {}), modelBaker);
+    }
+
+    private static BlockModel createModel() {
+        return new BlockModel(null, List.of(), new HashMap<>(), false, null, ItemTransforms.NO_TRANSFORMS, List.of());
+    }
+
+    private static BakedModel createBakedModel() {
+        return new BuiltInModel(ItemTransforms.NO_TRANSFORMS, ItemOverrides.EMPTY, null, false);
+    }
+
+    private record StubBaker(BiFunction<ResourceLocation, Material, TextureAtlasSprite> spriteGetter, ResourceLocation location, Runnable accessSharedState) implements ModelBaker {
+        @Override
+        public UnbakedModel getModel(ResourceLocation location) {
+            accessSharedState.run();
+            return createModel();
+        }
+
+        @Nullable
+        @Override
+        public BakedModel bake(ResourceLocation location, ModelState state) {
+            return bake(location, state, getModelTextureGetter());
+        }
+
+        @Nullable
+        @Override
+        public BakedModel bake(ResourceLocation location, ModelState state, Function<Material, TextureAtlasSprite> sprites) {
+            accessSharedState.run();
+            return createBakedModel();
+        }
+
+        @Override
+        public Function<Material, TextureAtlasSprite> getModelTextureGetter() {
+            return material -> spriteGetter.apply(location, material);
+        }
+    }
+
+    private static final class SerialGeometry implements IUnbakedGeometry<SerialGeometry> {
+        @Override
+        public BakedModel bake(IGeometryBakingContext context, ModelBaker baker, Function<Material, TextureAtlasSprite> spriteGetter, ModelState modelState, ItemOverrides overrides, ResourceLocation modelLocation) {
+            return createBakedModel();
+        }
+    }
+}
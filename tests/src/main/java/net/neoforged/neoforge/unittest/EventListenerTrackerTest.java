@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.unittest;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.neoforged.bus.api.BusBuilder;
+import net.neoforged.bus.api.Event;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.event.EventListenerTracker;
+import org.junit.jupiter.api.Test;
+
+public class EventListenerTrackerTest {
+    @Test
+    public void testNoListeners() {
+        EventListenerTracker tracker = new EventListenerTracker();
+        createBus(tracker);
+        assertFalse(tracker.hasListeners(ParentEvent.class));
+        assertFalse(tracker.hasListeners(ChildEvent.class));
+    }
+
+    @Test
+    public void testListenerReceivesSubtypes() {
+        EventListenerTracker tracker = new EventListenerTracker();
+        IEventBus bus = createBus(tracker);
+        bus.addListener(ParentEvent.class, event -> {});
+        assertTrue(tracker.hasListeners(ParentEvent.class));
+        assertTrue(tracker.hasListeners(ChildEvent.class));
+        assertFalse(tracker.hasListeners(OtherEvent.class));
+    }
+
+    @Test
+    public void testListenerDoesNotReceiveSupertypes() {
+        EventListenerTracker tracker = new EventListenerTracker();
+        IEventBus bus = createBus(tracker);
+        bus.addListener(ChildEvent.class, event -> {});
+        assertFalse(tracker.hasListeners(ParentEvent.class));
+        assertTrue(tracker.hasListeners(ChildEvent.class));
+    }
+
+    @Test
+    public void testRegistrationInvalidatesCachedResult() {
+        EventListenerTracker tracker = new EventListenerTracker();
+        IEventBus bus = createBus(tracker);
+        assertFalse(tracker.hasListeners(ChildEvent.class));
+        bus.addListener(ParentEvent.class, event -> {});
+        assertTrue(tracker.hasListeners(ChildEvent.class));
+    }
+
+    @Test
+    public void testSubscribeEventListeners() {
+        EventListenerTracker tracker = new EventListenerTracker();
+        IEventBus bus = createBus(tracker);
+        bus.register(new OtherListener());
+        assertTrue(tracker.hasListeners(OtherEvent.class));
+        assertFalse(tracker.hasListeners(ParentEvent.class));
+    }
+
+    private static IEventBus createBus(EventListenerTracker tracker) {
+        return BusBuilder.builder().classChecker(tracker::onListenerRegistered).build();
+    }
+
+    public static class ParentEvent extends Event {}
+
+    public static class ChildEvent extends ParentEvent {}
+
+    public static class OtherEvent extends Event {}
+
+    public static class OtherListener {
+        @SubscribeEvent
+        public void onOther(OtherEvent event) {}
+    }
+}
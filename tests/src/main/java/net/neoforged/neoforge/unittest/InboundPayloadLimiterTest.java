@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.unittest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.network.filters.InboundPayloadLimiter;
+import net.neoforged.neoforge.network.filters.InboundPayloadLimiter.Limits;
+import org.junit.jupiter.api.Test;
+
+public class InboundPayloadLimiterTest {
+    private static final ResourceLocation FLOODED = new ResourceLocation("neotests", "flooded");
+    private static final ResourceLocation QUIET = new ResourceLocation("neotests", "quiet");
+    private static final Limits LIMITS = new Limits(1000, 1 << 20, 500, 1 << 19);
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void testBurstWithinBudget() {
+        InboundPayloadLimiter limiter = new InboundPayloadLimiter();
+        for (int i = 0; i < 500; i++) {
+            assertEquals(0, limiter.record(FLOODED, 64, 0, LIMITS), "Payload " + i + " of the burst was throttled");
+        }
+        assertTrue(limiter.record(FLOODED, 64, 0, LIMITS) > 0, "Payload past the channel burst was not throttled");
+    }
+
+    @Test
+    public void testFloodingClientIsHeldToTheChannelRate() {
+        // A stand-in client that sends as fast as the server reads, and waits whenever the server stops reading
+        InboundPayloadLimiter limiter = new InboundPayloadLimiter();
+        long now = 0;
+        int sent = 0;
+        while (now < 10 * SECOND) {
+            long pause = limiter.record(FLOODED, 16, now, LIMITS);
+            sent++;
+            now += pause > 0 ? pause : 10_000;
+        }
+
+        // One second of burst, then the channel rate
+        double expected = LIMITS.channelPayloadsPerSecond() * 11.0;
+        assertTrue(Math.abs(sent - expected) < expected * 0.02, "Flooding client sent " + sent + " payloads in 10 seconds, expected about " + expected);
+    }
+
+    @Test
+    public void testBudgetRecovers() {
+        InboundPayloadLimiter limiter = new InboundPayloadLimiter();
+        long pause = 0;
+        for (int i = 0; i <= 500; i++) {
+            pause = limiter.record(FLOODED, 16, 0, LIMITS);
+        }
+        assertTrue(pause > 0);
+        assertEquals(0, limiter.record(FLOODED, 16, pause + SECOND / LIMITS.channelPayloadsPerSecond(), LIMITS));
+    }
+
+    @Test
+    public void testChannelsShareTheConnectionBudget() {
+        InboundPayloadLimiter limiter = new InboundPayloadLimiter();
+        for (int i = 0; i < 500; i++) {
+            assertEquals(0, limiter.record(FLOODED, 16, 0, LIMITS));
+            assertEquals(0, limiter.record(QUIET, 16, 0, LIMITS));
+        }
+        assertTrue(limiter.record(new ResourceLocation("neotests", "other"), 16, 0, LIMITS) > 0, "Connection budget was not shared between channels");
+    }
+
+    @Test
+    public void testUnknownChannelsOnlyUseTheConnectionBudget() {
+        InboundPayloadLimiter limiter = new InboundPayloadLimiter();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(0, limiter.record(null, 16, 0, LIMITS));
+        }
+        assertTrue(limiter.record(null, 16, 0, LIMITS) > 0);
+    }
+
+    @Test
+    public void testLargePayloadPausesForItsBytes() {
+        InboundPayloadLimiter limiter = new InboundPayloadLimiter();
+        // Twice the burst of the channel, so reads pause until a second's worth of bytes is recovered
+        long pause = limiter.record(FLOODED, LIMITS.channelBytesPerSecond() * 2, 0, LIMITS);
+        assertEquals(SECOND, pause, SECOND / 1000.0);
+    }
+
+    @Test
+    public void testDisabledBudgets() {
+        InboundPayloadLimiter limiter = new InboundPayloadLimiter();
+        Limits unlimited = new Limits(0, 0, 0, 0);
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(0, limiter.record(FLOODED, 1 << 20, 0, unlimited));
+        }
+    }
+}
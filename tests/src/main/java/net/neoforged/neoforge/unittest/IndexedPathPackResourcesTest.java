@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.unittest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.TreeSet;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.PackResources;
+import net.minecraft.server.packs.PackType;
+import net.minecraft.server.packs.PathPackResources;
+import net.neoforged.neoforge.resource.IndexedPathPackResources;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IndexedPathPackResourcesTest {
+    @Test
+    public void indexMatchesPathPackResources() throws IOException {
+        Path root = Files.createTempDirectory("indexed_pack");
+        write(root, "data/testmod/recipes/a.json");
+        write(root, "data/testmod/recipes/nested/b.json");
+        write(root, "data/testmod/recipes-extra/c.json");
+        write(root, "data/testmod/loot_tables/d.json");
+        write(root, "data/other/recipes/e.json");
+        write(root, "assets/testmod/models/f.json");
+        Files.createDirectories(root.resolve("data/empty"));
+
+        PackResources expected = new PathPackResources("test", root, true);
+        PackResources indexed = new IndexedPathPackResources.IndexedResourcesSupplier(root, true).openPrimary("test");
+
+        for (PackType type : PackType.values()) {
+            Assert.assertEquals(expected.getNamespaces(type), indexed.getNamespaces(type));
+            for (String namespace : expected.getNamespaces(type)) {
+                for (String path : new String[] { "recipes", "recipes/nested", "loot_tables", "models", "missing", "recipes/a.json" })
+                    Assert.assertEquals(type + " " + namespace + ":" + path, list(expected, type, namespace, path), list(indexed, type, namespace, path));
+            }
+        }
+
+        Assert.assertNotNull(indexed.getResource(PackType.SERVER_DATA, new ResourceLocation("testmod", "recipes/nested/b.json")));
+        Assert.assertNull(indexed.getResource(PackType.SERVER_DATA, new ResourceLocation("testmod", "recipes/missing.json")));
+        Assert.assertNull(indexed.getResource(PackType.CLIENT_RESOURCES, new ResourceLocation("testmod", "recipes/a.json")));
+    }
+
+    private static Set<ResourceLocation> list(PackResources pack, PackType type, String namespace, String path) {
+        Set<ResourceLocation> found = new TreeSet<>();
+        pack.listResources(type, namespace, path, (location, supplier) -> found.add(location));
+        return found;
+    }
+
+    private static void write(Path root, String path) throws IOException {
+        Path file = root.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "{}");
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) NeoForged and contributors
+ * SPDX-License-Identifier: LGPL-2.1-only
+ */
+
+package net.neoforged.neoforge.unittest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mojang.blaze3d.platform.NativeImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import net.minecraft.client.renderer.block.model.BlockElement;
+import net.minecraft.client.renderer.block.model.BlockElementFace;
+import net.minecraft.client.renderer.block.model.ItemModelGenerator;
+import net.minecraft.client.renderer.texture.SpriteContents;
+import net.minecraft.client.resources.metadata.animation.FrameSize;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceMetadata;
+import net.neoforged.neoforge.client.model.geometry.ItemLayerElementCache;
+import net.neoforged.neoforge.client.model.geometry.ItemLayerElementCache.MaskRect;
+import net.neoforged.neoforge.client.model.geometry.ItemLayerElementCache.Shapes;
+import org.junit.jupiter.api.Test;
+
+public class ItemLayerElementCacheTest {
+    @Test
+    public void testFullSpriteIsOneRect() {
+        BitSet opaque = new BitSet();
+        opaque.set(0, 16 * 16);
+        assertEquals(List.of(new MaskRect(0, 0, 16, 16)), ItemLayerElementCache.mergeOpaquePixels(opaque, 16, 16));
+    }
+
+    @Test
+    public void testRunsTouchingTheRightEdge() {
+        // A 4x2 sprite with the right half opaque
+        BitSet opaque = mask(4, 2,
+                "..##",
+                "..##");
+        assertEquals(List.of(new MaskRect(2, 0, 4, 2)), ItemLayerElementCache.mergeOpaquePixels(opaque, 4, 2));
+    }
+
+    @Test
+    public void testRunsOfDifferentWidthsAreNotMerged() {
+        BitSet opaque = mask(4, 3,
+                "####",
+                ".##.",
+                ".##.");
+        assertEquals(List.of(new MaskRect(0, 0, 4, 1), new MaskRect(1, 1, 3, 3)), ItemLayerElementCache.mergeOpaquePixels(opaque, 4, 3));
+    }
+
+    @Test
+    public void testRunsExtendIntoWiderRowsBelow() {
+        BitSet opaque = mask(4, 3,
+                ".##.",
+                "####",
+                "####");
+        assertEquals(List.of(new MaskRect(1, 0, 3, 3), new MaskRect(0, 1, 1, 3), new MaskRect(3, 1, 4, 3)), ItemLayerElementCache.mergeOpaquePixels(opaque, 4, 3));
+    }
+
+    @Test
+    public void testEmptySprite() {
+        assertTrue(ItemLayerElementCache.mergeOpaquePixels(new BitSet(), 16, 16).isEmpty());
+    }
+
+    @Test
+    public void testRectsCoverExactlyTheOpaquePixels() {
+        Random random = new Random(42);
+        int width = 32, height = 32;
+        for (int iteration = 0; iteration < 100; iteration++) {
+            BitSet opaque = new BitSet(width * height);
+            for (int i = 0; i < width * height; i++)
+                if (random.nextInt(4) != 0)
+                    opaque.set(i);
+
+            BitSet covered = new BitSet(width * height);
+            List<MaskRect> rects = ItemLayerElementCache.mergeOpaquePixels(opaque, width, height);
+            for (MaskRect rect : rects) {
+                for (int y = rect.minY(); y < rect.maxY(); y++) {
+                    for (int x = rect.minX(); x < rect.maxX(); x++) {
+                        assertFalse(covered.get(x + y * width), "Rects overlap at " + x + ", " + y);
+                        covered.set(x + y * width);
+                    }
+                }
+            }
+            assertEquals(opaque, covered);
+            assertTrue(rects.size() <= opaque.cardinality());
+        }
+    }
+
+    @Test
+    public void testCacheHitsMatchFreshGeneration() throws IOException {
+        int width = 16, height = 16;
+        BitSet opaque = new BitSet(width * height);
+        Random random = new Random(42);
+        for (int i = 0; i < width * height; i++)
+            if (random.nextInt(3) != 0)
+                opaque.set(i);
+
+        try (SpriteContents first = createSprite("first", width, height, opaque);
+                SpriteContents second = createSprite("second", width, height, opaque)) {
+            Shapes generated = ItemLayerElementCache.get(first);
+            Shapes hit = ItemLayerElementCache.get(second);
+            assertSame(generated, hit, "Sprites with the same pixels did not hit the cache");
+
+            // Shapes loaded from the cache file on a later launch
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            hit.write(new DataOutputStream(bytes));
+            Shapes loaded = Shapes.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+            ItemModelGenerator generator = new ItemModelGenerator();
+            Shapes fresh = Shapes.of(width, height, List.of(), opaque);
+            for (int layer = 0; layer < 3; layer++) {
+                List<BlockElement> expected = generator.processFrames(layer, "layer" + layer, second);
+                assertElementsEqual(expected, hit.createElements(layer));
+                assertElementsEqual(expected, loaded.createElements(layer));
+                assertElementsEqual(fresh.createMaskElements(layer), hit.createMaskElements(layer));
+                assertElementsEqual(fresh.createMaskElements(layer), loaded.createMaskElements(layer));
+            }
+        }
+    }
+
+    @Test
+    public void testDifferentPixelsMissTheCache() {
+        int width = 16, height = 16;
+        BitSet opaque = new BitSet(width * height);
+        opaque.set(0, width * height / 2);
+        BitSet otherOpaque = (BitSet) opaque.clone();
+        otherOpaque.set(width * height - 1);
+
+        try (SpriteContents sprite = createSprite("sprite", width, height, opaque);
+                SpriteContents other = createSprite("other", width, height, otherOpaque)) {
+            Shapes shapes = ItemLayerElementCache.get(sprite);
+            Shapes otherShapes = ItemLayerElementCache.get(other);
+            assertFalse(shapes.mask().equals(otherShapes.mask()), "Sprites with different pixels shared their cached shapes");
+            assertEquals(ItemLayerElementCache.mergeOpaquePixels(otherOpaque, width, height), otherShapes.mask());
+        }
+    }
+
+    private static SpriteContents createSprite(String name, int width, int height, BitSet opaque) {
+        NativeImage image = new NativeImage(NativeImage.Format.RGBA, width, height, false);
+        for (int y = 0; y < height; y++)
+            for (int x = 0; x < width; x++)
+                image.setPixelRGBA(x, y, opaque.get(x + y * width) ? 0xFF3366CC : 0);
+        return new SpriteContents(new ResourceLocation("neotests", name), new FrameSize(width, height), image, ResourceMetadata.EMPTY);
+    }
+
+    private static void assertElementsEqual(List<BlockElement> expected, List<BlockElement> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            BlockElement expectedElement = expected.get(i), actualElement = actual.get(i);
+            assertEquals(expectedElement.from, actualElement.from);
+            assertEquals(expectedElement.to, actualElement.to);
+            assertEquals(expectedElement.rotation, actualElement.rotation);
+            assertEquals(expectedElement.shade, actualElement.shade);
+            assertEquals(expectedElement.faces.keySet(), actualElement.faces.keySet());
+            expectedElement.faces.forEach((direction, expectedFace) -> {
+                BlockElementFace actualFace = actualElement.faces.get(direction);
+                assertNotNull(actualFace);
+                assertEquals(expectedFace.cullForDirection, actualFace.cullForDirection);
+                assertEquals(expectedFace.tintIndex, actualFace.tintIndex);
+                assertEquals(expectedFace.texture, actualFace.texture);
+                assertArrayEquals(expectedFace.uv.uvs, actualFace.uv.uvs);
+                assertEquals(expectedFace.uv.rotation, actualFace.uv.rotation);
+            });
+        }
+    }
+
+    private static BitSet mask(int width, int height, String... rows) {
+        BitSet mask = new BitSet(width * height);
+        for (int y = 0; y < height; y++)
+            for (int x = 0; x < width; x++)
+                if (rows[y].charAt(x) == '#')
+                    mask.set(x + y * width);
+        return mask;
+    }
+}
@@ -5,6 +5,7 @@
 
 package net.neoforged.neoforge.unittest;
 
+import com.electronwill.nightconfig.core.CommentedConfig;
 import com.electronwill.nightconfig.core.file.CommentedFileConfig;
 import com.electronwill.nightconfig.core.io.WritingMode;
 import com.google.common.base.Stopwatch;
@@ -72,6 +73,37 @@ public class ModConfigSpecTest {
         final ModConfigSpec spec = builder.build();
     }
 
+    @Test
+    public void primitiveValueTest() {
+        final ModConfigSpec.Builder builder = new ModConfigSpec.Builder();
+        final ModConfigSpec.IntValue intValue = builder.defineInRange("primitiveInt", 5, 0, 100);
+        final ModConfigSpec.DoubleValue doubleValue = builder.defineInRange("primitiveDouble", 0.5, 0, 1);
+        final ModConfigSpec spec = builder.build();
+        spec.setConfig(CommentedConfig.inMemory());
+
+        Assert.assertEquals(5, intValue.getAsInt());
+        Assert.assertEquals(0.5, doubleValue.getAsDouble(), 0);
+
+        intValue.set(42);
+        Assert.assertEquals(42, intValue.getAsInt());
+        Assert.assertEquals(42, (int) intValue.get());
+
+        long sum = 0;
+        final Stopwatch boxedWatch = Stopwatch.createStarted();
+        for (int i = 0; i < TEST_SIZE; i++) {
+            sum += intValue.get();
+        }
+        boxedWatch.stop();
+        final Stopwatch primitiveWatch = Stopwatch.createStarted();
+        for (int i = 0; i < TEST_SIZE; i++) {
+            sum += intValue.getAsInt();
+        }
+        primitiveWatch.stop();
+
+        Assert.assertEquals(42L * 2 * TEST_SIZE, sum);
+        System.out.printf("Computed test results for: primitiveValueTest (Boxed: %s vs. Primitive: %s)%n", boxedWatch, primitiveWatch);
+    }
+
     private <T> void executeSpeedTest(final String configKey, final T defaultKeyValue, final String testName) throws IOException {
         final ModConfigSpec.Builder builder = new ModConfigSpec.Builder();
         final ModConfigSpec.ConfigValue<T> simpleValue = builder.define(configKey, defaultKeyValue);